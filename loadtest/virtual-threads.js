@@ -0,0 +1,33 @@
+// Comparação thread-per-request x threads virtuais (ver ENVIRONMENTS_GUIDE.md, "Perfil VIRTUAL").
+// Uso: k6 run -e BASE_URL=http://localhost:8080/api -e TOKEN=<jwt> -e VUS=400 loadtest/virtual-threads.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const VUS = parseInt(__ENV.VUS || '400');
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const params = { headers: { Authorization: `Bearer ${__ENV.TOKEN}` } };
+
+export default function () {
+    // Mistura de leitura paginada (JDBC) e cursor, como no uso do quadro
+    const page = http.get(`${BASE_URL}/api/projects?page=0&size=20`, params);
+    check(page, { 'projects 200': (r) => r.status === 200 });
+
+    const cursor = http.get(`${BASE_URL}/api/responsibles/cursor?size=20`, params);
+    check(cursor, { 'responsibles 200': (r) => r.status === 200 });
+}
@@ -75,6 +75,13 @@ if not defined DB_PASSWORD (
     exit /b 1
 )
 
+REM Allow-list GraphQL so com manifesto (gerado por scripts/build-persisted-queries.sh)
+if defined GRAPHQL_PERSISTED_QUERIES_MANIFEST (
+    set GRAPHQL_PERSISTED_QUERIES_ALLOW_LIST_ONLY=true
+) else (
+    echo AVISO: GRAPHQL_PERSISTED_QUERIES_MANIFEST nao configurado; allow-list GraphQL desligada
+)
+
 echo.
 echo ========================================
 echo  INICIANDO KANBAN SAAS EM PRODUCAO
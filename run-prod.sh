@@ -71,6 +71,21 @@ if [ $? -ne 0 ]; then
     exit 1
 fi
 
+# Persisted queries GraphQL: gera o manifesto a partir das operações do front, se informadas
+# (depois do build, que apaga target/)
+if [ -n "$GRAPHQL_OPERATIONS_DIR" ]; then
+    ./scripts/build-persisted-queries.sh "$GRAPHQL_OPERATIONS_DIR" target/persisted-queries.json
+    GRAPHQL_PERSISTED_QUERIES_MANIFEST="file:$(pwd)/target/persisted-queries.json"
+fi
+
+# Allow-list só com manifesto: sem ele a aplicação aceita queries avulsas
+if [ -n "$GRAPHQL_PERSISTED_QUERIES_MANIFEST" ]; then
+    export GRAPHQL_PERSISTED_QUERIES_MANIFEST
+    export GRAPHQL_PERSISTED_QUERIES_ALLOW_LIST_ONLY=true
+else
+    echo "AVISO: GRAPHQL_PERSISTED_QUERIES_MANIFEST não configurado; allow-list GraphQL desligada"
+fi
+
 echo ""
 echo "Iniciando aplicação..."
 echo ""
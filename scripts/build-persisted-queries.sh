@@ -0,0 +1,41 @@
+#!/bin/bash
+# Gera o manifesto de persisted queries GraphQL: {"<sha256>": "<query>"}
+#
+# Uso: scripts/build-persisted-queries.sh <diretorio-com-operacoes> <saida.json>
+#
+# Cada arquivo *.graphql do diretorio (recursivo) e uma operacao, com o texto exato que o front envia:
+# o hash e calculado sobre o conteudo do arquivo, byte a byte.
+
+set -e
+
+if [ $# -ne 2 ]; then
+    echo "Uso: $0 <diretorio-com-operacoes> <saida.json>"
+    exit 1
+fi
+
+OPERATIONS_DIR="$1"
+OUTPUT="$2"
+
+if ! [ -x "$(command -v jq)" ]; then
+    echo "ERRO: jq nao encontrado!"
+    exit 1
+fi
+
+if [ ! -d "$OPERATIONS_DIR" ]; then
+    echo "ERRO: diretorio $OPERATIONS_DIR nao existe!"
+    exit 1
+fi
+
+FILES=$(find "$OPERATIONS_DIR" -type f -name "*.graphql" | sort)
+if [ -z "$FILES" ]; then
+    echo "ERRO: nenhuma operacao *.graphql em $OPERATIONS_DIR"
+    exit 1
+fi
+
+mkdir -p "$(dirname "$OUTPUT")"
+for f in $FILES; do
+    HASH=$(sha256sum "$f" | cut -d' ' -f1)
+    jq -n --arg hash "$HASH" --rawfile query "$f" '{($hash): $query}'
+done | jq -s 'add' > "$OUTPUT"
+
+echo "Manifesto gerado: $OUTPUT ($(jq 'length' "$OUTPUT") queries)"
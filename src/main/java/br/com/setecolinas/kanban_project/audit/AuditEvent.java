@@ -0,0 +1,19 @@
+package br.com.setecolinas.kanban_project.audit;
+
+import java.time.Instant;
+
+/**
+ * Evento de auditoria capturado na thread da requisição e gravado depois pelo {@link AuditLogWriter}.
+ * Guarda apenas valores simples (sem entidades gerenciadas) para poder cruzar threads.
+ */
+public record AuditEvent(
+        String tenantId,
+        Long userId,
+        String action,
+        String entityType,
+        Long entityId,
+        String description,
+        String ipAddress,
+        Instant timestamp
+) {
+}
@@ -0,0 +1,196 @@
+package br.com.setecolinas.kanban_project.audit;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exportação de {@code audit_logs} de um tenant direto para o {@link OutputStream} da resposta.
+ * <p>
+ * Usa um cursor JDBC forward-only com fetch size alto (no PostgreSQL isso exige estar dentro de uma
+ * transação, aberta pelo {@code AuditLogService}). Cada linha é escrita assim que lida e nada é acumulado,
+ * então a memória fica constante independente do volume. A ordenação por {@code timestamp} segue o
+ * índice {@code (tenant_id, timestamp)}.
+ */
+@Component
+@Slf4j
+public class AuditLogExporter {
+
+    private static final String COLUMNS =
+            "id, user_id, action, entity_type, entity_id, description, ip_address, timestamp";
+    private static final String CSV_HEADER = COLUMNS.replace(" ", "") + "\n";
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public AuditLogExporter(JdbcTemplate jdbcTemplate,
+                            @Value("${app.audit.export.fetch-size:5000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Escreve as linhas do tenant no formato pedido e retorna quantas foram exportadas.
+     * {@code from} é inclusivo, {@code to} exclusivo; filtros nulos são ignorados.
+     * Não fecha o {@code out}.
+     */
+    public long export(String tenantId, Instant from, Instant to, String action,
+                       ExportFormat format, OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder("select ").append(COLUMNS)
+                .append(" from audit_logs where tenant_id = ?");
+        List<Object> args = new ArrayList<>(4);
+        args.add(tenantId);
+        if (from != null) {
+            sql.append(" and timestamp >= ?");
+            args.add(Timestamp.from(from));
+        }
+        if (to != null) {
+            sql.append(" and timestamp < ?");
+            args.add(Timestamp.from(to));
+        }
+        if (action != null && !action.isBlank()) {
+            sql.append(" and action = ?");
+            args.add(action);
+        }
+        sql.append(" order by timestamp, id");
+
+        RowSink sink = format == ExportFormat.CSV ? new CsvSink(out) : new NdjsonSink(out);
+        long[] rows = {0};
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql.toString(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                for (int i = 0; i < args.size(); i++) {
+                    ps.setObject(i + 1, args.get(i));
+                }
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    sink.write(rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            // Cliente desconectou no meio do download: o cursor é fechado pelo JdbcTemplate
+            throw e.getCause();
+        }
+        sink.finish();
+        log.info("Exportação de auditoria concluída: tenant={} formato={} linhas={}", tenantId, format, rows[0]);
+        return rows[0];
+    }
+
+    private interface RowSink {
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class NdjsonSink implements RowSink {
+
+        private final JsonGenerator json;
+
+        NdjsonSink(OutputStream out) throws IOException {
+            this.json = JSON.createGenerator(out, JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.json.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            json.writeStartObject();
+            json.writeNumberField("id", rs.getLong("id"));
+            writeLong("userId", rs, "user_id");
+            json.writeStringField("action", rs.getString("action"));
+            json.writeStringField("entityType", rs.getString("entity_type"));
+            writeLong("entityId", rs, "entity_id");
+            json.writeStringField("description", rs.getString("description"));
+            json.writeStringField("ipAddress", rs.getString("ip_address"));
+            Timestamp ts = rs.getTimestamp("timestamp");
+            json.writeStringField("timestamp", ts != null ? ts.toInstant().toString() : null);
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+
+        private void writeLong(String field, ResultSet rs, String column) throws SQLException, IOException {
+            long value = rs.getLong(column);
+            if (rs.wasNull()) {
+                json.writeNullField(field);
+            } else {
+                json.writeNumberField(field, value);
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            json.close();
+        }
+    }
+
+    private static final class CsvSink implements RowSink {
+
+        private final Writer writer;
+
+        CsvSink(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+            this.writer.write(CSV_HEADER);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            writer.write(Long.toString(rs.getLong("id")));
+            writer.write(',');
+            writer.write(csv(rs.getString("user_id")));
+            writer.write(',');
+            writer.write(csv(rs.getString("action")));
+            writer.write(',');
+            writer.write(csv(rs.getString("entity_type")));
+            writer.write(',');
+            writer.write(csv(rs.getString("entity_id")));
+            writer.write(',');
+            writer.write(csv(rs.getString("description")));
+            writer.write(',');
+            writer.write(csv(rs.getString("ip_address")));
+            writer.write(',');
+            Timestamp ts = rs.getTimestamp("timestamp");
+            writer.write(ts != null ? ts.toInstant().toString() : "");
+            writer.write('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+    }
+
+    static String csv(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.setecolinas.kanban_project.audit;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * INSERT multi-linha em {@code audit_logs}. O {@code IDENTITY} de {@code AuditLog} impede o batch
+ * do Hibernate, então o lote vai em um único statement JDBC.
+ */
+@Component
+public class AuditLogJdbcInserter {
+
+    private static final String INSERT_PREFIX = "insert into audit_logs " +
+            "(tenant_id, user_id, action, entity_type, entity_id, description, ip_address, timestamp) values ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditLogJdbcInserter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Transação explícita: em prod o pool usa auto-commit=false e o INSERT seria descartado
+    @Transactional
+    public void insert(List<AuditEvent> batch) {
+        if (batch.isEmpty()) return;
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * (ROW.length() + 2))
+                .append(INSERT_PREFIX);
+        Object[] args = new Object[batch.size() * 8];
+        int i = 0;
+        for (AuditEvent e : batch) {
+            if (i > 0) sql.append(", ");
+            sql.append(ROW);
+            args[i++] = e.tenantId();
+            args[i++] = e.userId();
+            args[i++] = e.action();
+            args[i++] = e.entityType();
+            args[i++] = e.entityId();
+            args[i++] = e.description();
+            args[i++] = e.ipAddress();
+            args[i++] = Timestamp.from(e.timestamp());
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    /**
+     * Indica se a falha é do banco (conexão, timeout, lock) e não dos dados do lote. Nesse caso vale
+     * tentar de novo mais tarde; nos demais casos a mesma linha falharia de novo.
+     */
+    public static boolean isTransient(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof TransientDataAccessException
+                    || t instanceof RecoverableDataAccessException
+                    || t instanceof DataAccessResourceFailureException
+                    || t instanceof CannotCreateTransactionException
+                    || t instanceof TransactionTimedOutException
+                    || t instanceof SQLTransientException
+                    || t instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
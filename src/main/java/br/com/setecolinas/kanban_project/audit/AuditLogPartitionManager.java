@@ -0,0 +1,216 @@
+package br.com.setecolinas.kanban_project.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Particionamento mensal de {@code audit_logs} por {@code timestamp} (PostgreSQL).
+ * <p>
+ * Na primeira execução converte a tabela comum em particionada, copiando as linhas existentes. Depois
+ * mantém as partições {@code audit_logs_pYYYYMM} do mês corrente e dos próximos {@code months-ahead} meses
+ * e aplica a retenção por DETACH/DROP da partição inteira, sem DELETE em massa. O índice
+ * {@code (tenant_id, timestamp)} é criado na tabela pai e herdado por cada partição, e a consulta por
+ * intervalo de um mês lê uma partição só (partition pruning).
+ * <p>
+ * Em outros bancos (H2 nos testes) não faz nada.
+ */
+@Component
+@Slf4j
+public class AuditLogPartitionManager {
+
+    static final String TABLE = "audit_logs";
+    static final String DEFAULT_PARTITION = TABLE + "_default";
+
+    private static final Pattern PARTITION_NAME = Pattern.compile(TABLE + "_p(\\d{6})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String LOCK = "select pg_try_advisory_xact_lock(hashtext('audit_logs_partitions'))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean archive;
+
+    @Autowired
+    public AuditLogPartitionManager(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.audit.partitions.enabled:true}") boolean enabled,
+                                    @Value("${app.audit.partitions.months-ahead:2}") int monthsAhead,
+                                    @Value("${app.audit.partitions.retention-months:12}") int retentionMonths,
+                                    @Value("${app.audit.partitions.archive:false}") boolean archive) {
+        this(jdbcTemplate, transactionManager, Clock.systemUTC(), enabled, monthsAhead, retentionMonths, archive);
+    }
+
+    AuditLogPartitionManager(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, Clock clock,
+                             boolean enabled, int monthsAhead, int retentionMonths, boolean archive) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archive = archive;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${app.audit.partitions.cron:0 15 3 * * *}", zone = "UTC")
+    public void maintain() {
+        if (!enabled || !isPostgres()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Várias instâncias: só uma faz a manutenção por vez
+                if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK, Boolean.class))) {
+                    log.info("Manutenção de partições de auditoria em andamento em outra instância");
+                    return;
+                }
+                String relkind = jdbcTemplate.queryForObject(
+                        "select coalesce((select relkind::text from pg_class where oid = to_regclass(?)), '')",
+                        String.class, TABLE);
+                if (relkind.isEmpty()) {
+                    return;
+                }
+                YearMonth current = YearMonth.now(clock);
+                if (!"p".equals(relkind)) {
+                    convert(current);
+                }
+                for (YearMonth month : monthsToEnsure(current, monthsAhead)) {
+                    jdbcTemplate.execute(createPartitionSql(month));
+                }
+                applyRetention(current);
+            });
+        } catch (Exception e) {
+            log.error("Falha na manutenção de partições de auditoria: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("postgresql");
+    }
+
+    /**
+     * Troca a tabela comum pela particionada. A PK passa a ser {@code (id, timestamp)} porque o PostgreSQL
+     * exige a chave de partição em toda constraint única; o {@code id} continua vindo de uma sequence.
+     */
+    private void convert(YearMonth current) {
+        log.info("Convertendo {} em tabela particionada por mês", TABLE);
+        jdbcTemplate.execute("alter table " + TABLE + " rename to " + TABLE + "_legacy");
+        jdbcTemplate.execute("create table " + TABLE + " (like " + TABLE + "_legacy including defaults) "
+                + "partition by range (\"timestamp\")");
+        jdbcTemplate.execute("create sequence if not exists " + TABLE + "_part_id_seq");
+        jdbcTemplate.execute("alter table " + TABLE + " alter column id set default nextval('" + TABLE + "_part_id_seq')");
+        jdbcTemplate.execute("alter sequence " + TABLE + "_part_id_seq owned by " + TABLE + ".id");
+        jdbcTemplate.execute("alter table " + TABLE + " alter column \"timestamp\" set default now()");
+        jdbcTemplate.execute("alter table " + TABLE + " alter column \"timestamp\" set not null");
+        jdbcTemplate.execute("alter table " + TABLE + " add primary key (id, \"timestamp\")");
+        jdbcTemplate.execute("create table " + DEFAULT_PARTITION + " partition of " + TABLE + " default");
+        jdbcTemplate.queryForObject("select setval('" + TABLE + "_part_id_seq', "
+                + "coalesce((select max(id) from " + TABLE + "_legacy), 0) + 1, false)", Long.class);
+
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "select min(\"timestamp\") from " + TABLE + "_legacy", Timestamp.class);
+        YearMonth from = oldest == null ? current
+                : YearMonth.from(oldest.toInstant().atOffset(ZoneOffset.UTC));
+        for (YearMonth month = from; month.isBefore(current); month = month.plusMonths(1)) {
+            jdbcTemplate.execute(createPartitionSql(month));
+        }
+        for (YearMonth month : monthsToEnsure(current, monthsAhead)) {
+            jdbcTemplate.execute(createPartitionSql(month));
+        }
+
+        String columns = "id, tenant_id, user_id, action, entity_type, entity_id, description, ip_address, \"timestamp\"";
+        int copied = jdbcTemplate.update("insert into " + TABLE + " (" + columns + ") "
+                + "select id, tenant_id, user_id, action, entity_type, entity_id, description, ip_address, "
+                + "coalesce(\"timestamp\", now()) from " + TABLE + "_legacy");
+        jdbcTemplate.execute("drop table " + TABLE + "_legacy");
+
+        jdbcTemplate.execute("create index if not exists idx_audit_tenant_timestamp on " + TABLE
+                + " (tenant_id, \"timestamp\")");
+        jdbcTemplate.execute("create index if not exists idx_audit_user on " + TABLE + " (user_id)");
+        jdbcTemplate.execute("alter table " + TABLE + " add constraint fk_audit_logs_user "
+                + "foreign key (user_id) references users (id)");
+        log.info("Conversão de {} concluída: linhas copiadas={}", TABLE, copied);
+    }
+
+    private void applyRetention(YearMonth current) {
+        List<String> attached = jdbcTemplate.queryForList(
+                "select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid "
+                        + "where i.inhparent = to_regclass(?)", String.class, TABLE);
+        for (String partition : expiredPartitions(attached, current, retentionMonths)) {
+            jdbcTemplate.execute("alter table " + TABLE + " detach partition " + partition);
+            if (archive) {
+                jdbcTemplate.execute("alter table " + partition + " rename to " + partition.replace("_p", "_archive_p"));
+                log.info("Partição de auditoria arquivada: {}", partition);
+            } else {
+                jdbcTemplate.execute("drop table " + partition);
+                log.info("Partição de auditoria removida: {}", partition);
+            }
+        }
+        // A default só recebe eventos fora das partições mensais (ex.: replay antigo); costuma estar vazia
+        jdbcTemplate.update("delete from " + DEFAULT_PARTITION + " where \"timestamp\" < ?",
+                Timestamp.from(current.minusMonths(retentionMonths).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC)));
+    }
+
+    static List<YearMonth> monthsToEnsure(YearMonth current, int monthsAhead) {
+        List<YearMonth> months = new ArrayList<>(monthsAhead + 1);
+        for (int i = 0; i <= monthsAhead; i++) {
+            months.add(current.plusMonths(i));
+        }
+        return months;
+    }
+
+    static String partitionName(YearMonth month) {
+        return TABLE + "_p" + month.format(SUFFIX);
+    }
+
+    static String createPartitionSql(YearMonth month) {
+        return "create table if not exists " + partitionName(month) + " partition of " + TABLE
+                + " for values from ('" + month.atDay(1) + " 00:00:00+00') to ('"
+                + month.plusMonths(1).atDay(1) + " 00:00:00+00')";
+    }
+
+    /**
+     * Partições mensais inteiramente anteriores à janela de retenção. Com retenção de 12 meses em
+     * outubro/2026, a mais antiga mantida é outubro/2025.
+     */
+    static List<String> expiredPartitions(List<String> partitions, YearMonth current, int retentionMonths) {
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        List<String> expired = new ArrayList<>();
+        for (String name : partitions) {
+            Matcher m = PARTITION_NAME.matcher(name);
+            if (m.matches() && YearMonth.parse(m.group(1), SUFFIX).isBefore(oldestKept)) {
+                expired.add(name);
+            }
+        }
+        expired.sort(null);
+        return expired;
+    }
+}
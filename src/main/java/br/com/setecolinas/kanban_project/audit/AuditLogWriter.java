@@ -0,0 +1,216 @@
+package br.com.setecolinas.kanban_project.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grava eventos de auditoria fora da thread da requisição.
+ * <p>
+ * Os eventos entram em uma fila limitada e uma thread dedicada os grava em lotes (por tamanho ou
+ * intervalo) com um único INSERT multi-linha via JDBC, já que o {@code IDENTITY} de {@code AuditLog}
+ * impede o batch do Hibernate. Lotes que falham por indisponibilidade do banco vão para o
+ * {@link AuditSpillStore}; lotes rejeitados pelos dados são gravados linha a linha e as linhas inválidas
+ * vão para a quarentena. No shutdown a fila é drenada antes do DataSource ser fechado.
+ */
+@Component
+@Slf4j
+public class AuditLogWriter implements SmartLifecycle {
+
+    private final AuditLogJdbcInserter inserter;
+    private final AuditSpillStore spillStore;
+    private final BlockingQueue<AuditEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final long shutdownTimeoutMs;
+    private final OverflowPolicy overflowPolicy;
+
+    private final Timer flushTimer;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogWriter(AuditLogJdbcInserter inserter,
+                          AuditSpillStore spillStore,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.audit.queue-capacity:10000}") int queueCapacity,
+                          @Value("${app.audit.batch-size:500}") int batchSize,
+                          @Value("${app.audit.flush-interval-ms:200}") long flushIntervalMs,
+                          @Value("${app.audit.offer-timeout-ms:50}") long offerTimeoutMs,
+                          @Value("${app.audit.shutdown-timeout-ms:10000}") long shutdownTimeoutMs,
+                          @Value("${app.audit.overflow-policy:SPILL}") OverflowPolicy overflowPolicy) {
+        this.inserter = inserter;
+        this.spillStore = spillStore;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.overflowPolicy = overflowPolicy;
+
+        Gauge.builder("audit.queue.depth", queue, BlockingQueue::size)
+                .description("Eventos de auditoria aguardando gravação")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.flush.latency")
+                .description("Tempo de gravação de um lote de auditoria")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.written = Counter.builder("audit.events").tag("result", "written").register(meterRegistry);
+        this.dropped = Counter.builder("audit.events").tag("result", "dropped").register(meterRegistry);
+        this.failed = Counter.builder("audit.events").tag("result", "failed").register(meterRegistry);
+    }
+
+    /**
+     * Enfileira o evento sem tocar no banco. Com a fila cheia, a política {@code SPILL} grava o evento
+     * no arquivo local; retorna {@code false} apenas quando o evento foi descartado.
+     */
+    public boolean enqueue(AuditEvent event) {
+        boolean accepted;
+        try {
+            accepted = overflowPolicy == OverflowPolicy.BLOCK
+                    ? queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS)
+                    : queue.offer(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted && overflowPolicy == OverflowPolicy.SPILL) {
+            accepted = spillStore.append(event);
+        }
+        if (!accepted) {
+            dropped.increment();
+            log.warn("Fila de auditoria cheia, evento descartado: {} - {} - {}",
+                    event.tenantId(), event.action(), event.entityType());
+        }
+        return accepted;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        worker = new Thread(this::run, "audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+        try {
+            worker.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            List<AuditEvent> remaining = new ArrayList<>(queue.size());
+            queue.drainTo(remaining);
+            log.warn("Shutdown com {} eventos de auditoria não gravados, enviando para o spill", remaining.size());
+            spill(remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    int pending() {
+        return queue.size();
+    }
+
+    private void run() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        // Continua após o stop até esvaziar a fila (drain no shutdown)
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /** Espera o primeiro evento e completa o lote até encher ou vencer o intervalo de flush. */
+    private void collect(List<AuditEvent> batch) throws InterruptedException {
+        AuditEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) return;
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) break;
+            AuditEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) break;
+            batch.add(next);
+        }
+    }
+
+    void flush(List<AuditEvent> batch) {
+        try {
+            flushTimer.record(() -> inserter.insert(batch));
+            written.increment(batch.size());
+        } catch (Exception e) {
+            if (AuditLogJdbcInserter.isTransient(e)) {
+                log.error("Erro ao gravar lote de {} eventos de auditoria, enviando para o spill", batch.size(), e);
+                spill(batch);
+            } else {
+                log.warn("Lote de {} eventos de auditoria rejeitado, gravando linha a linha: {}", batch.size(), e.getMessage());
+                flushRowByRow(batch);
+            }
+        }
+    }
+
+    // Isola a linha rejeitada na quarentena; as demais são gravadas ou, se o banco cair, vão para o spill
+    private void flushRowByRow(List<AuditEvent> batch) {
+        List<AuditEvent> rejected = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            AuditEvent event = batch.get(i);
+            try {
+                inserter.insert(List.of(event));
+                written.increment();
+            } catch (Exception e) {
+                if (AuditLogJdbcInserter.isTransient(e)) {
+                    spill(batch.subList(i, batch.size()));
+                    break;
+                }
+                rejected.add(event);
+            }
+        }
+        if (!spillStore.quarantine(rejected)) {
+            failed.increment(rejected.size());
+        }
+    }
+
+    // Banco lento ou fora: o lote vai para o arquivo local e o AuditSpillReplayer grava depois
+    private void spill(List<AuditEvent> events) {
+        for (AuditEvent event : events) {
+            if (!spillStore.append(event)) {
+                failed.increment();
+            }
+        }
+    }
+}
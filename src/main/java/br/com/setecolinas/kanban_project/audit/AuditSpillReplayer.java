@@ -0,0 +1,121 @@
+package br.com.setecolinas.kanban_project.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Regrava em {@code audit_logs} os segmentos do {@link AuditSpillStore} quando o banco volta.
+ * <p>
+ * Cada segmento é gravado em uma única transação (em lotes multi-linha) e só então apagado, evitando
+ * duplicar metade de um segmento se o banco cair no meio do replay. Se o lote é rejeitado pelos dados
+ * (e não por indisponibilidade do banco), o segmento é regravado linha a linha: as linhas que falham vão
+ * para a quarentena e o segmento é apagado. Só falhas transitórias (conexão, timeout) interrompem o ciclo,
+ * que é tentado de novo no próximo intervalo.
+ */
+@Component
+@Slf4j
+public class AuditSpillReplayer {
+
+    private final AuditSpillStore spillStore;
+    private final AuditLogJdbcInserter inserter;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter replayed;
+
+    public AuditSpillReplayer(AuditSpillStore spillStore,
+                              AuditLogJdbcInserter inserter,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.audit.batch-size:500}") int batchSize) {
+        this.spillStore = spillStore;
+        this.inserter = inserter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.replayed = Counter.builder("audit.events").tag("result", "replayed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.audit.spill.replay-interval-ms:5000}")
+    public void replay() {
+        for (Path segment : spillStore.sealedSegments()) {
+            try {
+                if (!replay(segment)) return;
+            } catch (Exception e) {
+                log.warn("Replay de auditoria adiado, segmento={}: {}", segment.getFileName(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /** Retorna {@code false} quando o banco está indisponível e o ciclo deve parar. */
+    private boolean replay(Path segment) throws IOException {
+        List<AuditEvent> events = AuditSpillStore.read(segment);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int from = 0; from < events.size(); from += batchSize) {
+                    inserter.insert(events.subList(from, Math.min(from + batchSize, events.size())));
+                }
+            });
+        } catch (RuntimeException e) {
+            if (AuditLogJdbcInserter.isTransient(e)) throw e;
+            log.warn("Lote de auditoria rejeitado, regravando linha a linha: segmento={} erro={}",
+                    segment.getFileName(), e.getMessage());
+            return replayRowByRow(segment, events);
+        }
+        spillStore.delete(segment);
+        replayed.increment(events.size());
+        log.info("Replay de auditoria concluído: segmento={} eventos={}", segment.getFileName(), events.size());
+        return true;
+    }
+
+    /**
+     * Cada linha é commitada sozinha. Se o banco cair no meio, o segmento é reescrito só com as linhas
+     * restantes, para não duplicar as já gravadas no próximo ciclo.
+     */
+    private boolean replayRowByRow(Path segment, List<AuditEvent> events) throws IOException {
+        List<AuditEvent> rejected = new ArrayList<>();
+        int inserted = 0;
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                inserter.insert(List.of(events.get(i)));
+                inserted++;
+            } catch (RuntimeException e) {
+                if (AuditLogJdbcInserter.isTransient(e)) {
+                    quarantineOrKeep(segment, rejected, events.subList(i, events.size()));
+                    replayed.increment(inserted);
+                    log.warn("Replay de auditoria adiado, segmento={} restantes={}: {}",
+                            segment.getFileName(), events.size() - i, e.getMessage());
+                    return false;
+                }
+                rejected.add(events.get(i));
+            }
+        }
+        quarantineOrKeep(segment, rejected, List.of());
+        replayed.increment(inserted);
+        log.info("Replay de auditoria concluído: segmento={} eventos={} quarentena={}",
+                segment.getFileName(), inserted, rejected.size());
+        return true;
+    }
+
+    // Sem conseguir gravar a quarentena, as linhas rejeitadas continuam no segmento
+    private void quarantineOrKeep(Path segment, List<AuditEvent> rejected, List<AuditEvent> remaining)
+            throws IOException {
+        if (spillStore.quarantine(rejected)) {
+            spillStore.rewrite(segment, remaining);
+        } else {
+            List<AuditEvent> kept = new ArrayList<>(rejected);
+            kept.addAll(remaining);
+            spillStore.rewrite(segment, kept);
+        }
+    }
+}
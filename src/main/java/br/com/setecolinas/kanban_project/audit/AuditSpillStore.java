@@ -0,0 +1,316 @@
+package br.com.setecolinas.kanban_project.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Arquivo de spill da auditoria: segmentos append-only mapeados em memória em {@code app.audit.spill.dir}.
+ * <p>
+ * Cada registro é {@code [tamanho][crc32][payload]}; o tamanho é escrito por último, então um registro
+ * interrompido no meio fica com tamanho zero e marca o fim do segmento. O segmento ativo recebe
+ * {@code force()} a cada {@code app.audit.spill.fsync-interval-ms}: um crash perde no máximo esse intervalo.
+ * Ao encher, o segmento é selado e outro é aberto; os selados são regravados pelo {@link AuditSpillReplayer}.
+ * Eventos que o banco rejeita de forma permanente vão para {@code quarantine/}, no mesmo formato, para
+ * análise manual; não voltam ao replay.
+ * <p>
+ * O gauge {@code audit.spill.segments} é registrado pelo Spring Boot via {@link MeterBinder}, depois da construção.
+ */
+@Component
+@Slf4j
+public class AuditSpillStore implements MeterBinder {
+
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".seg";
+    private static final int HEADER_BYTES = 8;
+    private static final int TERMINATOR_BYTES = 4;
+
+    private final Path dir;
+    private final Path quarantineDir;
+    private final int segmentSize;
+    private final Counter spilled;
+    private final Counter quarantined;
+    private final Object lock = new Object();
+
+    private FileChannel channel;
+    private MappedByteBuffer active;
+    private long nextSequence;
+    private boolean dirty;
+
+    public AuditSpillStore(@Value("${app.audit.spill.dir:${java.io.tmpdir}/kanban-audit-spill}") Path dir,
+                           @Value("${app.audit.spill.segment-size-bytes:16777216}") int segmentSize,
+                           MeterRegistry meterRegistry) throws IOException {
+        this.dir = Files.createDirectories(dir);
+        this.quarantineDir = dir.resolve("quarantine");
+        this.segmentSize = segmentSize;
+        this.nextSequence = segments().stream().mapToLong(AuditSpillStore::sequenceOf).max().orElse(0) + 1;
+        this.spilled = Counter.builder("audit.events").tag("result", "spilled").register(meterRegistry);
+        this.quarantined = Counter.builder("audit.events").tag("result", "quarantined").register(meterRegistry);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("audit.spill.segments", this, store -> store.segments().size())
+                .description("Segmentos de auditoria aguardando replay")
+                .register(registry);
+    }
+
+    /** Acrescenta o evento ao segmento ativo. Retorna {@code false} se não foi possível gravar em disco. */
+    public boolean append(AuditEvent event) {
+        byte[] payload = encode(event);
+        int needed = HEADER_BYTES + payload.length + TERMINATOR_BYTES;
+        if (needed > segmentSize) {
+            log.error("Evento de auditoria maior que o segmento de spill ({} bytes)", payload.length);
+            return false;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        synchronized (lock) {
+            try {
+                if (active == null || active.remaining() < needed) {
+                    seal();
+                    open();
+                }
+                int start = active.position();
+                active.position(start + 4);
+                active.putInt((int) crc.getValue());
+                active.put(payload);
+                // Tamanho por último: o registro só passa a existir quando está completo
+                active.putInt(start, payload.length);
+                dirty = true;
+            } catch (IOException | RuntimeException e) {
+                log.error("Erro ao gravar evento de auditoria no spill {}", dir, e);
+                return false;
+            }
+        }
+        spilled.increment();
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.audit.spill.fsync-interval-ms:1000}")
+    public void sync() {
+        synchronized (lock) {
+            if (active != null && dirty) {
+                active.force();
+                dirty = false;
+            }
+        }
+    }
+
+    /**
+     * Sela o segmento ativo (se tiver registros) e devolve todos os segmentos selados, do mais antigo
+     * para o mais novo. Novos eventos passam a ir para um segmento novo.
+     */
+    public List<Path> sealedSegments() {
+        synchronized (lock) {
+            if (active != null && active.position() > 0) {
+                try {
+                    seal();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            Path current = active != null ? segmentPath(nextSequence - 1) : null;
+            return segments().stream().filter(p -> !p.equals(current)).toList();
+        }
+    }
+
+    /** Lê os registros válidos de um segmento, parando no primeiro tamanho zero ou CRC inválido. */
+    public static List<AuditEvent> read(Path segment) throws IOException {
+        List<AuditEvent> events = new ArrayList<>();
+        try (FileChannel ch = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            while (buf.remaining() >= HEADER_BYTES) {
+                int length = buf.getInt();
+                if (length <= 0 || length > buf.remaining() - 4) break;
+                int expected = buf.getInt();
+                byte[] payload = new byte[length];
+                buf.get(payload);
+
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != expected) {
+                    log.warn("Registro corrompido no segmento {} na posição {}, ignorando o restante",
+                            segment, buf.position() - length - HEADER_BYTES);
+                    break;
+                }
+                events.add(decode(payload));
+            }
+        }
+        return events;
+    }
+
+    public void delete(Path segment) throws IOException {
+        Files.deleteIfExists(segment);
+    }
+
+    /**
+     * Substitui um segmento selado pelos eventos que ainda faltam regravar. A troca é atômica
+     * (arquivo temporário + move), então um crash deixa o segmento antigo ou o novo, nunca metade.
+     */
+    public void rewrite(Path segment, List<AuditEvent> remaining) throws IOException {
+        if (remaining.isEmpty()) {
+            delete(segment);
+            return;
+        }
+        Path tmp = segment.resolveSibling(segment.getFileName() + ".tmp");
+        Files.write(tmp, records(remaining));
+        Files.move(tmp, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Grava em {@code quarantine/} eventos rejeitados permanentemente pelo banco. Retorna {@code false}
+     * se não foi possível gravar em disco.
+     */
+    public boolean quarantine(List<AuditEvent> events) {
+        if (events.isEmpty()) return true;
+        try {
+            Files.createDirectories(quarantineDir);
+            Path file = Files.createTempFile(quarantineDir, PREFIX, SUFFIX);
+            Files.write(file, records(events));
+            quarantined.increment(events.size());
+            log.error("Eventos de auditoria em quarentena: arquivo={} eventos={}", file.getFileName(), events.size());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("Erro ao gravar eventos de auditoria na quarentena {}", quarantineDir, e);
+            return false;
+        }
+    }
+
+    private void open() throws IOException {
+        Path path = segmentPath(nextSequence++);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        active = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+
+    private void seal() throws IOException {
+        if (active == null) return;
+        active.force();
+        channel.close();
+        active = null;
+        channel = null;
+        dirty = false;
+    }
+
+    private List<Path> segments() {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.getFileName().toString().startsWith(PREFIX)
+                            && p.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path segmentPath(long sequence) {
+        return dir.resolve(String.format("%s%020d%s", PREFIX, sequence, SUFFIX));
+    }
+
+    private static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    // ====== Codificação binária do evento ======
+    private static byte[] records(List<AuditEvent> events) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream(events.size() * 256);
+             DataOutputStream out = new DataOutputStream(bytes)) {
+            for (AuditEvent event : events) {
+                byte[] payload = encode(event);
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                out.writeInt(payload.length);
+                out.writeInt((int) crc.getValue());
+                out.write(payload);
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] encode(AuditEvent e) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+             DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, e.tenantId());
+            writeLong(out, e.userId());
+            writeString(out, e.action());
+            writeString(out, e.entityType());
+            writeLong(out, e.entityId());
+            writeString(out, e.description());
+            writeString(out, e.ipAddress());
+            out.writeLong(e.timestamp().getEpochSecond());
+            out.writeInt(e.timestamp().getNano());
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static AuditEvent decode(byte[] payload) {
+        ByteBuffer in = ByteBuffer.wrap(payload);
+        try {
+            return new AuditEvent(readString(in), readLong(in), readString(in), readString(in), readLong(in),
+                    readString(in), readString(in), Instant.ofEpochSecond(in.getLong(), in.getInt()));
+        } catch (BufferUnderflowException e) {
+            throw new IllegalStateException("Registro de auditoria inválido no spill", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) return null;
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        out.writeLong(value != null ? value : 0L);
+    }
+
+    private static Long readLong(ByteBuffer in) {
+        boolean present = in.get() != 0;
+        long value = in.getLong();
+        return present ? value : null;
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.setecolinas.kanban_project.audit;
+
+/**
+ * Formatos da exportação de auditoria: um objeto JSON por linha ou CSV com cabeçalho.
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
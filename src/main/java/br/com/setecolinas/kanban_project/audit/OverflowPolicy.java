@@ -0,0 +1,15 @@
+package br.com.setecolinas.kanban_project.audit;
+
+/**
+ * O que fazer quando a fila de auditoria está cheia.
+ * <ul>
+ *     <li>{@code BLOCK}: espera até {@code app.audit.offer-timeout-ms} por espaço e então descarta;</li>
+ *     <li>{@code DROP}: descarta imediatamente, sem segurar a requisição;</li>
+ *     <li>{@code SPILL}: grava no arquivo local ({@link AuditSpillStore}) para replay posterior.</li>
+ * </ul>
+ */
+public enum OverflowPolicy {
+    BLOCK,
+    DROP,
+    SPILL
+}
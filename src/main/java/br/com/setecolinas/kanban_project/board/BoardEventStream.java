@@ -0,0 +1,262 @@
+package br.com.setecolinas.kanban_project.board;
+
+import br.com.setecolinas.kanban_project.dto.ProjectResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stream SSE das mudanças de projetos por tenant, alimentado pelos {@link ProjectChangedEvent} após o commit.
+ * <p>
+ * Cada conexão tem uma fila limitada esvaziada por uma virtual thread, então um cliente lento nunca segura a
+ * thread que publicou o evento; se a fila enche, a conexão é fechada e o navegador reconecta. Cada tenant
+ * guarda os últimos eventos num ring buffer: na reconexão o {@code Last-Event-ID} reenvia o que faltou ou,
+ * se o id saiu do buffer (ou é de antes de um restart), manda um {@code reset} para o cliente recarregar o
+ * quadro. Um comentário de heartbeat mantém proxies e load balancers com a conexão aberta.
+ */
+@Component
+public class BoardEventStream {
+
+    static final String RESET = "reset";
+
+    private static final Logger log = LoggerFactory.getLogger(BoardEventStream.class);
+
+    // Prefixo dos ids: distingue eventos desta execução dos de antes de um restart
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final Executor senders;
+    private final int bufferSize;
+    private final int replaySize;
+    private final int maxConnectionsPerTenant;
+    private final long timeoutMs;
+
+    private final AtomicInteger open = new AtomicInteger();
+    private final Counter overflows;
+
+    @Autowired
+    public BoardEventStream(MeterRegistry meterRegistry,
+                            @Value("${app.board.stream.buffer-size:64}") int bufferSize,
+                            @Value("${app.board.stream.replay-size:500}") int replaySize,
+                            @Value("${app.board.stream.max-connections-per-tenant:200}") int maxConnectionsPerTenant,
+                            @Value("${app.board.stream.timeout-ms:1800000}") long timeoutMs) {
+        this(Executors.newVirtualThreadPerTaskExecutor(), meterRegistry, bufferSize, replaySize,
+                maxConnectionsPerTenant, timeoutMs);
+    }
+
+    BoardEventStream(Executor senders, MeterRegistry meterRegistry, int bufferSize, int replaySize,
+                     int maxConnectionsPerTenant, long timeoutMs) {
+        this.senders = senders;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.maxConnectionsPerTenant = maxConnectionsPerTenant;
+        this.timeoutMs = timeoutMs;
+        this.overflows = Counter.builder("board.stream.overflows").register(meterRegistry);
+        Gauge.builder("board.stream.connections", open, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * Abre uma conexão do tenant, reenviando o que veio depois de {@code lastEventId}. Vazio quando o tenant
+     * já está no limite de conexões.
+     */
+    public Optional<SseEmitter> subscribe(String tenantId, String lastEventId) {
+        Channel channel = channels.computeIfAbsent(tenantId, t -> new Channel());
+        SseEmitter emitter = createEmitter(timeoutMs);
+        Connection connection = new Connection(channel, emitter);
+        synchronized (channel) {
+            if (channel.connections.size() >= maxConnectionsPerTenant) {
+                log.warn("action=board.stream.rejected tenantId={} connections={}", tenantId, channel.connections.size());
+                return Optional.empty();
+            }
+            channel.connections.add(connection);
+            open.incrementAndGet();
+            // Na mesma seção do publish: nenhum evento cai entre o replay e a entrada na lista
+            connection.offer(SseEmitter.event().comment("connected"));
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                List<Entry> missed = channel.since(lastEventId);
+                if (missed == null) {
+                    connection.offer(SseEmitter.event().name(RESET).data(Map.of("lastEventId", lastEventId)));
+                } else {
+                    missed.forEach(e -> connection.offer(e.toSse()));
+                }
+            }
+        }
+        emitter.onCompletion(connection::close);
+        emitter.onTimeout(connection::close);
+        emitter.onError(e -> connection.close());
+        log.info("action=board.stream.opened tenantId={} lastEventId={}", tenantId, lastEventId);
+        return Optional.of(emitter);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProjectChangedEvent event) {
+        Channel channel = channels.get(event.tenantId());
+        if (channel == null) return;
+        synchronized (channel) {
+            Entry entry = new Entry(epoch + "-" + (++channel.seq), channel.seq,
+                    event.type().name().toLowerCase(Locale.ROOT), new Change(event.projectId(), event.project()));
+            channel.ring.addLast(entry);
+            if (channel.ring.size() > replaySize) {
+                channel.ring.removeFirst();
+            }
+            for (Connection c : List.copyOf(channel.connections)) {
+                c.offer(entry.toSse());
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.board.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Channel channel : channels.values()) {
+            synchronized (channel) {
+                for (Connection c : List.copyOf(channel.connections)) {
+                    c.offer(SseEmitter.event().comment("ping"));
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Channel channel : channels.values()) {
+            List<Connection> connections;
+            synchronized (channel) {
+                connections = new ArrayList<>(channel.connections);
+            }
+            connections.forEach(c -> c.emitter.complete());
+        }
+        if (senders instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    SseEmitter createEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    int connections(String tenantId) {
+        Channel channel = channels.get(tenantId);
+        if (channel == null) return 0;
+        synchronized (channel) {
+            return channel.connections.size();
+        }
+    }
+
+    /** Corpo dos eventos {@code created/updated/transitioned/deleted}; {@code project} nulo no delete. */
+    public record Change(Long projectId, ProjectResponseDTO project) {
+    }
+
+    private record Entry(String id, long seq, String name, Change change) {
+
+        SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event().id(id).name(name).data(change);
+        }
+    }
+
+    private final class Channel {
+
+        private final ArrayDeque<Entry> ring = new ArrayDeque<>();
+        private final Set<Connection> connections = new LinkedHashSet<>();
+        private long seq;
+
+        /** Eventos depois de {@code lastEventId}, ou null quando não dá para garantir a sequência. */
+        List<Entry> since(String lastEventId) {
+            int dash = lastEventId.lastIndexOf('-');
+            if (dash < 0 || !epoch.equals(lastEventId.substring(0, dash))) return null;
+            long last;
+            try {
+                last = Long.parseLong(lastEventId.substring(dash + 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (last > seq) return null;
+            if (last < seq && (ring.isEmpty() || ring.getFirst().seq() > last + 1)) return null;
+            List<Entry> out = new ArrayList<>();
+            for (Entry e : ring) {
+                if (e.seq() > last) out.add(e);
+            }
+            return out;
+        }
+    }
+
+    private final class Connection {
+
+        private final Channel channel;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Connection(Channel channel, SseEmitter emitter) {
+            this.channel = channel;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) return;
+            if (!queue.offer(event)) {
+                // Cliente não acompanha: fecha e deixa a reconexão buscar o resto pelo Last-Event-ID
+                overflows.increment();
+                log.warn("action=board.stream.overflow buffer={}", bufferSize);
+                close();
+                emitter.complete();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!queue.isEmpty() && !closed.get() && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) return;
+            queue.clear();
+            synchronized (channel) {
+                channel.connections.remove(this);
+            }
+            open.decrementAndGet();
+        }
+    }
+}
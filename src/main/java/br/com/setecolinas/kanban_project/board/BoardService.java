@@ -0,0 +1,90 @@
+package br.com.setecolinas.kanban_project.board;
+
+import br.com.setecolinas.kanban_project.cache.TenantCacheKey;
+import br.com.setecolinas.kanban_project.dto.BoardDTO;
+import br.com.setecolinas.kanban_project.service.ProjectService;
+import br.com.setecolinas.kanban_project.service.ResponsibleChangedEvent;
+import br.com.setecolinas.kanban_project.security.TenantContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+/**
+ * Read model do quadro kanban por tenant.
+ * <p>
+ * O snapshot é montado uma vez a partir do banco e depois atualizado card a card pelos
+ * {@link ProjectChangedEvent} (após o commit), sem reconsultar. Eventos de um tenant sem snapshot em
+ * memória são ignorados: o próximo acesso carrega o estado já commitado. O {@code computeIfPresent}
+ * do Caffeine espera uma carga em andamento do mesmo tenant, então um evento nunca se perde no meio dela.
+ */
+@Service
+public class BoardService {
+
+    public static final String CACHE = "boardSnapshots";
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(BoardService.class);
+
+    private final ProjectService projectService;
+    private final Cache<Object, Object> snapshots;
+
+    @SuppressWarnings("unchecked")
+    public BoardService(ProjectService projectService, CacheManager cacheManager) {
+        this.projectService = projectService;
+        org.springframework.cache.Cache cache = Objects.requireNonNull(cacheManager.getCache(CACHE), CACHE);
+        this.snapshots = (Cache<Object, Object>) cache.getNativeCache();
+    }
+
+    public BoardDTO board(Integer limit) {
+        String tenantId = TenantContext.getCurrentTenantId();
+        int n = limit == null || limit < 1 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        return snapshot(tenantId).view(n);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProjectChangedEvent event) {
+        snapshots.asMap().computeIfPresent(key(event.tenantId()), (k, value) -> {
+            BoardSnapshot snapshot = (BoardSnapshot) value;
+            if (event.deleted()) {
+                snapshot.remove(event.projectId());
+            } else {
+                snapshot.upsert(event.project());
+            }
+            return snapshot;
+        });
+    }
+
+    /** Responsável removido: some dos cards em memória, como já acontece no banco. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ResponsibleChangedEvent event) {
+        if (event.type() != ResponsibleChangedEvent.Type.DELETED) return;
+        snapshots.asMap().computeIfPresent(key(event.tenantId()), (k, value) -> {
+            ((BoardSnapshot) value).removeResponsible(event.responsibleId());
+            return value;
+        });
+    }
+
+    /** Descarta o snapshot do tenant; a próxima leitura recarrega do banco. */
+    public void evict(String tenantId) {
+        snapshots.invalidate(key(tenantId));
+    }
+
+    private BoardSnapshot snapshot(String tenantId) {
+        return (BoardSnapshot) snapshots.get(key(tenantId), k -> {
+            BoardSnapshot snapshot = new BoardSnapshot();
+            projectService.forEachCard(tenantId, snapshot::upsert);
+            log.info("action=board.loaded tenantId={}", tenantId);
+            return snapshot;
+        });
+    }
+
+    private static TenantCacheKey key(String tenantId) {
+        return TenantCacheKey.of(tenantId, "board");
+    }
+}
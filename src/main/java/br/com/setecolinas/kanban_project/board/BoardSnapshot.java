@@ -0,0 +1,86 @@
+package br.com.setecolinas.kanban_project.board;
+
+import br.com.setecolinas.kanban_project.dto.BoardColumnDTO;
+import br.com.setecolinas.kanban_project.dto.BoardDTO;
+import br.com.setecolinas.kanban_project.dto.ProjectResponseDTO;
+import br.com.setecolinas.kanban_project.model.enums.ProjectStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Quadro de um tenant em memória: cards ordenados por coluna (status) e índice por id.
+ * <p>
+ * Cada card mora em exatamente uma coluna; mudar de status é remover da antiga e inserir na nova.
+ * Dentro da coluna a ordem é prazo mais próximo primeiro (sem prazo no fim) e depois id.
+ * Acesso sincronizado: as escritas são raras e a leitura copia só os N primeiros de cada coluna.
+ */
+public class BoardSnapshot {
+
+    static final Comparator<ProjectResponseDTO> CARD_ORDER = Comparator
+            .comparing(ProjectResponseDTO::plannedEnd, Comparator.nullsLast(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(ProjectResponseDTO::id);
+
+    private final Map<ProjectStatus, NavigableSet<ProjectResponseDTO>> columns = new EnumMap<>(ProjectStatus.class);
+    private final Map<Long, ProjectResponseDTO> byId = new HashMap<>();
+
+    public BoardSnapshot() {
+        for (ProjectStatus status : ProjectStatus.values()) {
+            columns.put(status, new TreeSet<>(CARD_ORDER));
+        }
+    }
+
+    public synchronized void upsert(ProjectResponseDTO card) {
+        remove(card.id());
+        byId.put(card.id(), card);
+        columns.get(column(card)).add(card);
+    }
+
+    public synchronized void remove(Long id) {
+        ProjectResponseDTO previous = byId.remove(id);
+        if (previous != null) {
+            columns.get(column(previous)).remove(previous);
+        }
+    }
+
+    /** Tira o responsável removido dos cards que o listavam. */
+    public synchronized void removeResponsible(Long responsibleId) {
+        List<ProjectResponseDTO> affected = byId.values().stream()
+                .filter(card -> card.responsibleIds() != null && card.responsibleIds().contains(responsibleId))
+                .toList();
+        for (ProjectResponseDTO card : affected) {
+            Set<Long> ids = new HashSet<>(card.responsibleIds());
+            ids.remove(responsibleId);
+            upsert(new ProjectResponseDTO(card.id(), card.name(), card.status(), card.plannedStart(), card.plannedEnd(),
+                    card.actualStart(), card.actualEnd(), card.daysDelay(), card.percentTimeRemaining(), Set.copyOf(ids)));
+        }
+    }
+
+    public synchronized BoardDTO view(int limit) {
+        List<BoardColumnDTO> out = new ArrayList<>(columns.size());
+        columns.forEach((status, cards) -> {
+            List<ProjectResponseDTO> top = new ArrayList<>(Math.min(limit, cards.size()));
+            Iterator<ProjectResponseDTO> it = cards.iterator();
+            while (it.hasNext() && top.size() < limit) {
+                top.add(it.next());
+            }
+            out.add(new BoardColumnDTO(status.name(), cards.size(), top));
+        });
+        return new BoardDTO(out);
+    }
+
+    // Registros antigos sem status calculado ficam em A_INICIAR
+    private static ProjectStatus column(ProjectResponseDTO card) {
+        return card.status() == null ? ProjectStatus.A_INICIAR : ProjectStatus.valueOf(card.status());
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.setecolinas.kanban_project.board;
+
+import br.com.setecolinas.kanban_project.dto.ProjectResponseDTO;
+
+/**
+ * Publicado pelo {@code ProjectService} em create/update/transition/delete e entregue após o commit.
+ * {@code project} é o estado final do card; nulo quando o projeto foi removido.
+ */
+public record ProjectChangedEvent(String tenantId, Long projectId, Type type, ProjectResponseDTO project) {
+
+    public enum Type { CREATED, UPDATED, TRANSITIONED, DELETED }
+
+    public boolean deleted() {
+        return type == Type.DELETED;
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.setecolinas.kanban_project.cache;
+
+import br.com.setecolinas.kanban_project.dto.ProjectResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cache de projetos em dois níveis:
+ * <ul>
+ *     <li>{@code project}: {@link ProjectResponseDTO} por (tenantId, id);</li>
+ *     <li>{@code projectPageIds}: apenas os ids e o total de cada página por (tenantId, pageable).</li>
+ * </ul>
+ * As páginas são remontadas a partir do cache de entidades, de modo que uma escrita invalida só o
+ * projeto alterado e o índice de páginas do seu tenant. Carregamentos concorrentes da mesma chave
+ * são executados uma única vez (compute atômico do Caffeine).
+ */
+@Component
+public class ProjectCache {
+
+    public static final String PROJECT = "project";
+    public static final String PAGE_IDS = "projectPageIds";
+
+    private final Cache<Object, Object> entities;
+    private final Cache<Object, Object> pageIndexes;
+    private final TenantCacheEvictor evictor;
+
+    public ProjectCache(CacheManager cacheManager, TenantCacheEvictor evictor) {
+        this.entities = nativeCache(cacheManager, PROJECT);
+        this.pageIndexes = nativeCache(cacheManager, PAGE_IDS);
+        this.evictor = evictor;
+    }
+
+    public Optional<ProjectResponseDTO> get(String tenantId, Long id, Supplier<Optional<ProjectResponseDTO>> loader) {
+        Object cached = entities.get(TenantCacheKey.of(tenantId, id), key -> loader.get().orElse(null));
+        return Optional.ofNullable((ProjectResponseDTO) cached);
+    }
+
+    /**
+     * @param pageLoader  consulta a página completa quando o índice não está em cache
+     * @param batchLoader carrega de uma vez os projetos do índice que saíram do cache de entidades
+     */
+    public Page<ProjectResponseDTO> getPage(String tenantId, Pageable pageable,
+                                            Supplier<Page<ProjectResponseDTO>> pageLoader,
+                                            Function<List<Long>, List<ProjectResponseDTO>> batchLoader) {
+        PageIndex index = (PageIndex) pageIndexes.get(TenantCacheKey.of(tenantId, pageable), key -> {
+            Page<ProjectResponseDTO> page = pageLoader.get();
+            page.forEach(dto -> entities.put(TenantCacheKey.of(tenantId, dto.id()), dto));
+            return new PageIndex(page.map(ProjectResponseDTO::id).getContent(), page.getTotalElements());
+        });
+
+        Map<Long, ProjectResponseDTO> byId = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : index.ids()) {
+            Object cached = entities.getIfPresent(TenantCacheKey.of(tenantId, id));
+            if (cached != null) {
+                byId.put(id, (ProjectResponseDTO) cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (ProjectResponseDTO dto : batchLoader.apply(missing)) {
+                entities.put(TenantCacheKey.of(tenantId, dto.id()), dto);
+                byId.put(dto.id(), dto);
+            }
+        }
+
+        // Mantém a ordem do índice; ids removidos concorrentemente são ignorados
+        List<ProjectResponseDTO> content = index.ids().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, index.total());
+    }
+
+    /** Invalida o projeto e o índice de páginas do tenant (update, transition, delete). */
+    public void evict(String tenantId, Long id) {
+        evictor.evict(PROJECT, TenantCacheKey.of(tenantId, id));
+        evictPages(tenantId);
+    }
+
+    /** Invalida vários projetos do tenant e o índice de páginas uma única vez (recálculo em lote). */
+    public void evict(String tenantId, Collection<Long> ids) {
+        for (Long id : ids) {
+            evictor.evict(PROJECT, TenantCacheKey.of(tenantId, id));
+        }
+        evictPages(tenantId);
+    }
+
+    /**
+     * Invalida todos os projetos e o índice de páginas do tenant. Usado quando um responsável é removido:
+     * o id dele aparece nos {@code responsibleIds} de projetos que não se sabe quais são sem consultar.
+     */
+    public void evictTenant(String tenantId) {
+        evictor.evictTenant(PROJECT, tenantId);
+        evictPages(tenantId);
+    }
+
+    /** Invalida apenas o índice de páginas do tenant (create). */
+    public void evictPages(String tenantId) {
+        evictor.evictTenant(PAGE_IDS, tenantId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<Object, Object> nativeCache(CacheManager cacheManager, String name) {
+        org.springframework.cache.Cache cache = Objects.requireNonNull(cacheManager.getCache(name), name);
+        return (Cache<Object, Object>) cache.getNativeCache();
+    }
+
+    record PageIndex(List<Long> ids, long total) {
+    }
+}
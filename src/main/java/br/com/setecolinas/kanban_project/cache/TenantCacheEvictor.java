@@ -0,0 +1,73 @@
+package br.com.setecolinas.kanban_project.cache;
+
+import br.com.setecolinas.kanban_project.security.TenantContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Remove de um cache apenas as entradas do tenant corrente, substituindo {@code allEntries = true}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenantCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    public void evictTenant(String cacheName) {
+        evictTenant(cacheName, TenantContext.getCurrentTenantId());
+    }
+
+    /**
+     * Remove as entradas do tenant imediatamente e, dentro de uma transação, novamente após o commit,
+     * para descartar páginas recarregadas por leituras concorrentes antes do commit.
+     */
+    public void evictTenant(String cacheName, String tenantId) {
+        removeTenantEntries(cacheName, tenantId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    removeTenantEntries(cacheName, tenantId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Remove uma única chave, com a mesma repetição após o commit de {@link #evictTenant(String, String)}.
+     */
+    public void evict(String cacheName, Object key) {
+        org.springframework.cache.Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) return;
+
+        cache.evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evict(key);
+                }
+            });
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void removeTenantEntries(String cacheName, String tenantId) {
+        org.springframework.cache.Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) return;
+
+        if (cache.getNativeCache() instanceof Cache<?, ?> nativeCache) {
+            ((Cache<Object, Object>) nativeCache).asMap().keySet()
+                    .removeIf(key -> key instanceof TenantCacheKey k && tenantId.equals(k.tenantId()));
+        } else {
+            cache.clear();
+        }
+        log.debug("Cache {} invalidado para tenant {}", cacheName, tenantId);
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.setecolinas.kanban_project.cache;
+
+import java.util.List;
+
+/**
+ * Chave de cache sempre prefixada pelo tenant, permitindo remover apenas as entradas de um tenant.
+ */
+public record TenantCacheKey(String tenantId, List<Object> params) {
+
+    public static TenantCacheKey of(String tenantId, Object... params) {
+        return new TenantCacheKey(tenantId, List.of(params));
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.setecolinas.kanban_project.cache;
+
+import br.com.setecolinas.kanban_project.security.TenantContext;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Gera {@link TenantCacheKey} a partir do tenant autenticado e dos parâmetros do método.
+ * Uso: {@code @Cacheable(value = "...", keyGenerator = "tenantKeyGenerator")}.
+ */
+@Component("tenantKeyGenerator")
+public class TenantCacheKeyGenerator implements KeyGenerator {
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        // Arrays.asList aceita parâmetros nulos (ex.: search opcional)
+        return new TenantCacheKey(TenantContext.getCurrentTenantId(), Arrays.asList(params));
+    }
+}
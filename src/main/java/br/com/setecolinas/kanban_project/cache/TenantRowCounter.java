@@ -0,0 +1,87 @@
+package br.com.setecolinas.kanban_project.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Contagem aproximada de linhas por (tenant, entidade). O primeiro acesso faz o COUNT exato;
+ * depois os services ajustam o valor em create/delete após o commit. O TTL do cache
+ * {@code tenantRowCounts} recalcula periodicamente para corrigir desvios (ex.: deletes em cascata).
+ */
+@Component
+public class TenantRowCounter {
+
+    public static final String CACHE = "tenantRowCounts";
+
+    private final Cache<Object, Object> counts;
+
+    @SuppressWarnings("unchecked")
+    public TenantRowCounter(CacheManager cacheManager) {
+        org.springframework.cache.Cache cache = Objects.requireNonNull(cacheManager.getCache(CACHE), CACHE);
+        this.counts = (Cache<Object, Object>) cache.getNativeCache();
+    }
+
+    public long get(String entity, String tenantId, LongSupplier exactCount) {
+        AtomicLong count = (AtomicLong) counts.get(TenantCacheKey.of(tenantId, entity),
+                key -> new AtomicLong(exactCount.getAsLong()));
+        return Math.max(0, count.get());
+    }
+
+    public void increment(String entity, String tenantId) {
+        increment(entity, tenantId, 1);
+    }
+
+    public void increment(String entity, String tenantId, long delta) {
+        afterCommit(() -> adjust(entity, tenantId, delta));
+    }
+
+    public void decrement(String entity, String tenantId) {
+        afterCommit(() -> adjust(entity, tenantId, -1));
+    }
+
+    /** Descarta a contagem; a próxima leitura refaz o COUNT. */
+    public void reset(String entity, String tenantId) {
+        afterCommit(() -> counts.invalidate(TenantCacheKey.of(tenantId, entity)));
+    }
+
+    /**
+     * Monta uma {@link Page} a partir de um {@link Slice} e de um total aproximado, garantindo que o
+     * total nunca fique abaixo do que a própria fatia já mostrou.
+     */
+    public static <T> Page<T> toPage(Slice<T> slice, long approximateTotal) {
+        long seen = slice.getPageable().isPaged()
+                ? slice.getPageable().getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0)
+                : slice.getNumberOfElements();
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), Math.max(approximateTotal, seen));
+    }
+
+    private void adjust(String entity, String tenantId, long delta) {
+        AtomicLong count = (AtomicLong) counts.getIfPresent(TenantCacheKey.of(tenantId, entity));
+        if (count != null) {
+            count.addAndGet(delta);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
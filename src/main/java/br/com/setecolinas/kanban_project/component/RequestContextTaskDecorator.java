@@ -0,0 +1,46 @@
+package br.com.setecolinas.kanban_project.component;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+
+/**
+ * Leva o MDC (requestId, userId) e o {@link SecurityContext} da thread que agenda a tarefa para a thread
+ * que a executa, e limpa os dois ao final.
+ * <p>
+ * Com threads virtuais cada tarefa roda em uma thread nova, então os {@code ThreadLocal} do
+ * {@link MDCFilter}, do {@code withUserContext} dos services e do {@link SecurityContextHolder}
+ * começariam vazios sem essa cópia.
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        SecurityContext security = SecurityContextHolder.getContext();
+        return () -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            SecurityContext previousSecurity = SecurityContextHolder.getContext();
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            } else {
+                MDC.clear();
+            }
+            SecurityContextHolder.setContext(security);
+            try {
+                runnable.run();
+            } finally {
+                // Thread de plataforma reaproveitada (pool): volta ao estado anterior
+                if (previousMdc != null) {
+                    MDC.setContextMap(previousMdc);
+                } else {
+                    MDC.clear();
+                }
+                SecurityContextHolder.setContext(previousSecurity);
+            }
+        };
+    }
+}
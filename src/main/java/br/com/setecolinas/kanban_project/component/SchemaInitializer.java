@@ -0,0 +1,168 @@
+package br.com.setecolinas.kanban_project.component;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * DDL que o Hibernate não aplica (ou aplica errado) fora de um banco novo (PostgreSQL).
+ * <p>
+ * Em homol/prod o {@code ddl-auto} é {@code validate} e o Liquibase está desligado, então os índices
+ * declarados só nos {@code @Table(indexes = ...)} das entidades nunca chegariam ao banco. Roda antes do
+ * EntityManagerFactory ({@code SchemaConfig}) e cria o que falta com {@code CREATE INDEX CONCURRENTLY}, sem
+ * bloquear escrita nas tabelas; um índice deixado inválido por uma criação interrompida é recriado. Tabela
+ * ainda inexistente (banco novo) é ignorada: o Hibernate a cria com os índices.
+ * <p>
+ * Sequências de {@code @SequenceGenerator} com {@code allocationSize > 1}: criadas se faltarem, com o
+ * {@code INCREMENT BY} igual ao allocationSize, e avançadas para depois do maior id quando a tabela já tinha
+ * linhas (ex.: ids gerados por IDENTITY antes da troca, ou sequência criada pelo {@code ddl-auto: update}
+ * num banco existente). O otimizador pooled usa os ids {@code nextval - allocationSize + 1 .. nextval}.
+ * <p>
+ * Várias instâncias: um advisory lock de sessão serializa a execução. Em outros bancos (H2) não faz nada.
+ */
+@Component
+@Slf4j
+public class SchemaInitializer implements InitializingBean {
+
+    static final List<IndexDefinition> INDEXES = List.of(
+            // ORDER BY name, id (e keyset) das listagens por tenant
+            new IndexDefinition("idx_project_tenant_name_id", "project", "tenant_id, name, id"),
+            new IndexDefinition("idx_responsible_tenant_name_id", "responsible", "tenant_id, name, id"),
+            new IndexDefinition("idx_secretaria_tenant_nome_id", "secretaria", "tenant_id, nome, id"),
+            // Candidatos do recálculo diário por tenant
+            new IndexDefinition("idx_project_tenant_planned_end", "project", "tenant_id, planned_end"),
+            // Filtros da listagem de projetos: status/prazo, início e secretaria do responsável
+            new IndexDefinition("idx_project_tenant_status_planned_end", "project", "tenant_id, status, planned_end"),
+            new IndexDefinition("idx_project_tenant_planned_start", "project", "tenant_id, planned_start"),
+            new IndexDefinition("idx_responsible_secretaria", "responsible", "secretaria_id"));
+
+    static final List<SequenceDefinition> SEQUENCES = List.of(
+            new SequenceDefinition("project_seq", "project", 50));
+
+    private static final String LOCK_KEY = "hashtext('kanban_schema')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public SchemaInitializer(JdbcTemplate jdbcTemplate,
+                             @Value("${app.schema.initializer.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            String product = connection.getMetaData().getDatabaseProductName();
+            if (product == null || !product.toLowerCase().contains("postgresql")) {
+                return null;
+            }
+            // CONCURRENTLY não roda dentro de transação
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(true);
+            try {
+                apply(connection);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+            return null;
+        });
+    }
+
+    private void apply(Connection connection) {
+        JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        jdbc.execute("select pg_advisory_lock(" + LOCK_KEY + ")");
+        try {
+            for (SequenceDefinition sequence : SEQUENCES) {
+                try {
+                    ensureSequence(jdbc, sequence);
+                } catch (Exception e) {
+                    log.error("Falha ao preparar sequência {}: {}", sequence.name(), e.getMessage(), e);
+                }
+            }
+            for (IndexDefinition index : INDEXES) {
+                try {
+                    ensureIndex(jdbc, index);
+                } catch (Exception e) {
+                    log.error("Falha ao criar índice {}: {}", index.name(), e.getMessage(), e);
+                }
+            }
+        } finally {
+            jdbc.execute("select pg_advisory_unlock(" + LOCK_KEY + ")");
+        }
+    }
+
+    private void ensureSequence(JdbcTemplate jdbc, SequenceDefinition sequence) {
+        jdbc.execute("create sequence if not exists " + sequence.name() + " start with 1 increment by "
+                + sequence.allocationSize());
+        Long increment = jdbc.queryForObject("select seqincrement from pg_sequence where seqrelid = to_regclass(?)",
+                Long.class, sequence.name());
+        if (increment == null || increment != sequence.allocationSize()) {
+            log.warn("Sequência {} com increment {}; ajustando para {}", sequence.name(), increment,
+                    sequence.allocationSize());
+            jdbc.execute("alter sequence " + sequence.name() + " increment by " + sequence.allocationSize());
+        }
+
+        Boolean tableExists = jdbc.queryForObject("select to_regclass(?) is not null", Boolean.class, sequence.table());
+        if (!Boolean.TRUE.equals(tableExists)) {
+            return;
+        }
+        long maxId = Objects.requireNonNull(
+                jdbc.queryForObject("select coalesce(max(id), 0) from " + sequence.table(), Long.class));
+        long nextValue = Objects.requireNonNull(jdbc.queryForObject(
+                "select case when is_called then last_value + " + sequence.allocationSize()
+                        + " else last_value end from " + sequence.name(), Long.class));
+        if (needsRestart(nextValue, maxId, sequence.allocationSize())) {
+            long restart = maxId + sequence.allocationSize();
+            log.warn("Sequência {} atrás de {} (max id {}); avançando para {}", sequence.name(), sequence.table(),
+                    maxId, restart);
+            jdbc.queryForObject("select setval(?::regclass, ?, false)", Long.class, sequence.name(), restart);
+        }
+    }
+
+    /** O próximo bloco do pooled ({@code nextValue - allocationSize + 1 ..}) colidiria com ids existentes. */
+    static boolean needsRestart(long nextValue, long maxId, int allocationSize) {
+        return maxId > 0 && nextValue - allocationSize + 1 <= maxId;
+    }
+
+    private void ensureIndex(JdbcTemplate jdbc, IndexDefinition index) {
+        Boolean tableExists = jdbc.queryForObject("select to_regclass(?) is not null", Boolean.class, index.table());
+        if (!Boolean.TRUE.equals(tableExists)) {
+            return;
+        }
+        List<Boolean> valid = jdbc.queryForList(
+                "select i.indisvalid from pg_index i join pg_class c on c.oid = i.indexrelid "
+                        + "where c.oid = to_regclass(?)", Boolean.class, index.name());
+        if (!valid.isEmpty() && Boolean.TRUE.equals(valid.get(0))) {
+            return;
+        }
+        if (!valid.isEmpty()) {
+            log.warn("Índice {} inválido (criação interrompida); recriando", index.name());
+            jdbc.execute("drop index concurrently if exists " + index.name());
+        }
+        log.info("Criando índice {} em {}", index.name(), index.table());
+        jdbc.execute(createIndexSql(index));
+    }
+
+    static String createIndexSql(IndexDefinition index) {
+        return "create index concurrently if not exists " + index.name() + " on " + index.table()
+                + " (" + index.columns() + ")";
+    }
+
+    record IndexDefinition(String name, String table, String columns) {
+    }
+
+    record SequenceDefinition(String name, String table, int allocationSize) {
+    }
+}
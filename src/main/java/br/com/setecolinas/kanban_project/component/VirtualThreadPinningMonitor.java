@@ -0,0 +1,77 @@
+package br.com.setecolinas.kanban_project.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Diagnóstico de pinning: escuta o evento JFR {@code jdk.VirtualThreadPinned} (thread virtual bloqueada
+ * dentro de {@code synchronized} ou código nativo, presa ao carrier) e registra o frame responsável.
+ * <p>
+ * Cada ocorrência acima do limite incrementa {@code jvm.threads.virtual.pinned} e gera um WARN com a
+ * pilha resumida. Driver JDBC e pool são os suspeitos usuais.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final int FRAMES = 8;
+
+    private final Duration threshold;
+    private final Counter pinned;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinned = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Threads virtuais presas ao carrier acima do limite")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        stream.startAsync();
+        log.info("Monitor de pinning de threads virtuais ativo (limite={}ms)", threshold.toMillis());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        if (log.isWarnEnabled()) {
+            log.warn("Thread virtual presa ao carrier por {}ms:{}", event.getDuration().toMillis(), frames(event));
+        }
+    }
+
+    private static String frames(RecordedEvent event) {
+        if (event.getStackTrace() == null) return " (sem stack)";
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < Math.min(FRAMES, frames.size()); i++) {
+            RecordedFrame f = frames.get(i);
+            sb.append("\n\tat ").append(f.getMethod().getType().getName()).append('.')
+                    .append(f.getMethod().getName()).append(':').append(f.getLineNumber());
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+}
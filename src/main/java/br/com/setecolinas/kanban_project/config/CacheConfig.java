@@ -0,0 +1,45 @@
+package br.com.setecolinas.kanban_project.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/**
+ * Caches Caffeine com limite de tamanho e TTL por cache. As estatísticas (hit/miss/eviction)
+ * são exportadas pelo Actuator via Micrometer como {@code cache.*}.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheConfig.CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties properties) {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        // Caches não declarados usam a especificação padrão
+        manager.setCaffeineSpec(CaffeineSpec.parse(withStats(properties.defaultSpec())));
+        manager.setAllowNullValues(false);
+        properties.specs().forEach((name, spec) ->
+                manager.registerCustomCache(name, Caffeine.from(withStats(spec)).build()));
+        return manager;
+    }
+
+    private static String withStats(String spec) {
+        return spec.contains("recordStats") ? spec : spec + ",recordStats";
+    }
+
+    @ConfigurationProperties(prefix = "app.cache")
+    public record CacheProperties(String defaultSpec, Map<String, String> specs) {
+
+        public CacheProperties {
+            if (defaultSpec == null || defaultSpec.isBlank()) defaultSpec = "maximumSize=1000,expireAfterWrite=10m";
+            if (specs == null) specs = Map.of();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.setecolinas.kanban_project.config;
+
+import br.com.setecolinas.kanban_project.graphql.QueryCostInstrumentation;
+import br.com.setecolinas.kanban_project.model.enums.PlanType;
+import br.com.setecolinas.kanban_project.service.SubscriptionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Limites de custo/profundidade das operações GraphQL. O DGS encadeia qualquer bean {@code Instrumentation}.
+ */
+@Configuration
+@EnableConfigurationProperties(GraphQLCostConfig.CostProperties.class)
+@ConditionalOnProperty(prefix = "app.graphql.cost", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class GraphQLCostConfig {
+
+    @Bean
+    public QueryCostInstrumentation queryCostInstrumentation(CostProperties properties,
+                                                             SubscriptionService subscriptionService,
+                                                             MeterRegistry meterRegistry) {
+        return new QueryCostInstrumentation(properties.weights(), properties.budgets(), properties.maxDepth(),
+                properties.defaultListSize(), subscriptionService::planOf, meterRegistry);
+    }
+
+    @ConfigurationProperties(prefix = "app.graphql.cost")
+    public record CostProperties(boolean enabled, Integer maxDepth, Integer defaultListSize,
+                                 Map<PlanType, Integer> budgets, Map<String, Integer> weights) {
+
+        public CostProperties {
+            if (maxDepth == null) maxDepth = 10;
+            if (defaultListSize == null) defaultListSize = 20;
+            if (budgets == null || budgets.isEmpty()) {
+                budgets = new EnumMap<>(Map.of(PlanType.FREE, 1000, PlanType.PRO, 5000, PlanType.ENTERPRISE, 20000));
+            }
+            if (weights == null) weights = Map.of();
+        }
+    }
+}
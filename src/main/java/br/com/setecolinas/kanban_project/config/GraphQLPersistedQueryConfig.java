@@ -0,0 +1,78 @@
+package br.com.setecolinas.kanban_project.config;
+
+import br.com.setecolinas.kanban_project.graphql.PersistedQueryDocumentProvider;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.graphql.dgs.internal.QueryValueCustomizer;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Persisted queries e cache de documentos GraphQL. O DGS usa o {@code PreparsedDocumentProvider} do contexto
+ * no lugar do parse/validação a cada requisição; o {@link QueryValueCustomizer} troca a query vazia das
+ * requisições só com hash pelo marcador esperado pelo graphql-java.
+ */
+@Configuration
+@EnableConfigurationProperties(GraphQLPersistedQueryConfig.PersistedQueryProperties.class)
+public class GraphQLPersistedQueryConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(GraphQLPersistedQueryConfig.class);
+
+    @Bean
+    public PersistedQueryDocumentProvider persistedQueryDocumentProvider(PersistedQueryProperties properties,
+                                                                         ObjectMapper objectMapper,
+                                                                         MeterRegistry meterRegistry) throws IOException {
+        Map<String, String> allowList = loadManifest(properties.manifest(), objectMapper);
+        if (properties.allowListOnly() && allowList.isEmpty()) {
+            throw new IllegalStateException("app.graphql.persisted-queries.allow-list-only ativo sem queries no manifesto "
+                    + properties.manifest());
+        }
+        log.info("action=graphql.persistedQueries.loaded allowListOnly={} queries={}", properties.allowListOnly(), allowList.size());
+        return new PersistedQueryDocumentProvider(properties.cacheSize(), allowList, properties.allowListOnly(), meterRegistry);
+    }
+
+    @Bean
+    public QueryValueCustomizer persistedQueryValueCustomizer() {
+        return query -> query == null || query.isBlank() ? PersistedQuerySupport.PERSISTED_QUERY_MARKER : query;
+    }
+
+    /** Manifesto {@code {"<sha256>": "<query>"}}; hash que não bate com o texto impede a subida. */
+    static Map<String, String> loadManifest(Resource manifest, ObjectMapper objectMapper) throws IOException {
+        if (manifest == null || !manifest.exists()) {
+            return Map.of();
+        }
+        Map<String, String> entries;
+        try (InputStream in = manifest.getInputStream()) {
+            entries = objectMapper.readValue(in, new TypeReference<Map<String, String>>() { });
+        }
+        Map<String, String> allowList = new HashMap<>();
+        entries.forEach((hash, query) -> {
+            String actual = PersistedQueryDocumentProvider.sha256(query);
+            if (!actual.equalsIgnoreCase(hash)) {
+                throw new IllegalStateException("Hash " + hash + " não corresponde à query no manifesto " + manifest);
+            }
+            allowList.put(actual, query);
+        });
+        return allowList;
+    }
+
+    @ConfigurationProperties(prefix = "app.graphql.persisted-queries")
+    public record PersistedQueryProperties(Long cacheSize, boolean allowListOnly, Resource manifest) {
+
+        public PersistedQueryProperties {
+            if (cacheSize == null) cacheSize = 2000L;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.setecolinas.kanban_project.config;
+
+import br.com.setecolinas.kanban_project.graphql.GraphQLWebSocketHandler;
+import br.com.setecolinas.kanban_project.security.JwtAuthenticationFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.graphql.dgs.DgsQueryExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+/**
+ * Endpoint WebSocket das subscriptions GraphQL. A autenticação acontece no {@code connection_init},
+ * por isso o handshake está liberado no {@link SecurityConfig}.
+ */
+@Configuration
+@EnableWebSocket
+public class GraphQLWebSocketConfig implements WebSocketConfigurer {
+
+    public static final String PATH = "/subscriptions";
+
+    private final GraphQLWebSocketHandler handler;
+    private final String[] allowedOrigins;
+
+    public GraphQLWebSocketConfig(DgsQueryExecutor executor, JwtAuthenticationFilter authenticator, ObjectMapper objectMapper,
+                                  @Value("${app.graphql.subscriptions.init-timeout-ms:10000}") long initTimeoutMs,
+                                  @Value("${app.graphql.subscriptions.send-time-limit-ms:10000}") int sendTimeLimitMs,
+                                  @Value("${app.graphql.subscriptions.send-buffer-size-limit:524288}") int sendBufferSizeLimit,
+                                  @Value("${app.graphql.subscriptions.allowed-origins:*}") String[] allowedOrigins) {
+        this.handler = new GraphQLWebSocketHandler(executor, authenticator, objectMapper, Schedulers.boundedElastic(),
+                Duration.ofMillis(initTimeoutMs), sendTimeLimitMs, sendBufferSizeLimit);
+        this.allowedOrigins = allowedOrigins;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(handler, PATH).setAllowedOriginPatterns(allowedOrigins);
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.setecolinas.kanban_project.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita os jobs {@code @Scheduled}: fsync e replay do spill de auditoria, heartbeat do SSE do board,
+ * recálculo de status dos projetos e manutenção das partições de auditoria.
+ * <p>
+ * O pool do scheduler ({@code spring.task.scheduling.pool.size}) tem um thread por job; com o padrão de
+ * um único thread, o replay bloqueado com o banco fora segurava o fsync e o heartbeat.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,18 @@
+package br.com.setecolinas.kanban_project.config;
+
+import br.com.setecolinas.kanban_project.component.SchemaInitializer;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Garante que o {@link SchemaInitializer} rode antes do EntityManagerFactory (e do {@code ddl-auto: validate}).
+ */
+@Configuration
+public class SchemaConfig {
+
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor schemaInitializerDependsOnPostProcessor() {
+        return new EntityManagerFactoryDependsOnPostProcessor(SchemaInitializer.class);
+    }
+}
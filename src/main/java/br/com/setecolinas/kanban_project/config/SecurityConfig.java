@@ -1,6 +1,7 @@
 package br.com.setecolinas.kanban_project.config;
 
 import br.com.setecolinas.kanban_project.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -46,7 +47,9 @@ public class SecurityConfig {
 
             // GraphQL
             "/graphql",
-            "/graphiql"
+            "/graphiql",
+            // Subscriptions: token validado no connection_init
+            "/subscriptions"
     };
 
     @Bean
@@ -66,6 +69,8 @@ public class SecurityConfig {
                 .cors(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Redespacho assíncrono (SSE) de uma requisição que já passou pela autorização
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(SWAGGER_WHITELIST).permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/auth/register").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
@@ -9,7 +9,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.HandlerInterceptor;
-import br.com.setecolinas.kanban_project.model.User;
+import br.com.setecolinas.kanban_project.security.ClaimsPrincipal;
+import br.com.setecolinas.kanban_project.security.TenantContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -35,14 +36,13 @@ public class TenantInterceptorConfig implements WebMvcConfigurer {
                 if (authentication != null && authentication.isAuthenticated()) {
                     Object principal = authentication.getPrincipal();
 
-                    if (principal instanceof User) {
-                        User user = (User) principal;
-                        String tenantId = user.getTenantId();
+                    if (principal instanceof ClaimsPrincipal) {
+                        String tenantId = TenantContext.getCurrentTenantId();
 
                         // Colocar tenantId no contexto da requisição
                         request.setAttribute("tenantId", tenantId);
-                        request.setAttribute("userId", user.getId());
-                        request.setAttribute("organizationId", user.getOrganization().getId());
+                        request.setAttribute("userId", TenantContext.getCurrentUserId());
+                        request.setAttribute("organizationId", TenantContext.getCurrentOrganizationId());
 
                         log.debug("TenantId setado para requisição: {}", tenantId);
                     }
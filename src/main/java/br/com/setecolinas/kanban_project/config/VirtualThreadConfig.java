@@ -0,0 +1,57 @@
+package br.com.setecolinas.kanban_project.config;
+
+import br.com.setecolinas.kanban_project.component.DataSourceConcurrencyLimiter;
+import br.com.setecolinas.kanban_project.component.RequestContextTaskDecorator;
+import br.com.setecolinas.kanban_project.component.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Perfil {@code virtual}: requisições do Tomcat, {@code @Async} e {@code @Scheduled} em threads virtuais
+ * ({@code spring.threads.virtual.enabled}, ativado no application.yml). Combina com os perfis de ambiente,
+ * ex.: {@code --spring.profiles.active=prod,virtual}.
+ * <p>
+ * Aqui ficam as peças que tornam isso seguro: propagação de MDC/SecurityContext para tarefas assíncronas,
+ * limite de conexões simultâneas igual ao pool Hikari e o monitor de pinning.
+ */
+@Configuration
+@Profile("virtual")
+public class VirtualThreadConfig {
+
+    // Aplicado pelo Spring Boot ao executor padrão (applicationTaskExecutor)
+    @Bean
+    public TaskDecorator requestContextTaskDecorator() {
+        return new RequestContextTaskDecorator();
+    }
+
+    @Bean
+    public static BeanPostProcessor dataSourceConcurrencyLimiterPostProcessor(Environment env,
+                                                                              ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof DataSourceConcurrencyLimiter)) {
+                    int permits = env.getProperty("app.virtual-threads.db-permits", Integer.class, 10);
+                    long timeoutMs = env.getProperty("app.virtual-threads.db-acquire-timeout-ms", Long.class, 30000L);
+                    return new DataSourceConcurrencyLimiter(dataSource, permits, timeoutMs, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(Environment env, MeterRegistry meterRegistry) {
+        long thresholdMs = env.getProperty("app.virtual-threads.pinned-threshold-ms", Long.class, 20L);
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMs), meterRegistry);
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.setecolinas.kanban_project.controller;
+
+import br.com.setecolinas.kanban_project.audit.ExportFormat;
+import br.com.setecolinas.kanban_project.security.TenantContext;
+import br.com.setecolinas.kanban_project.service.AuditLogService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/audit-logs")
+public class AuditLogController {
+
+    private final AuditLogService service;
+
+    public AuditLogController(AuditLogService service) {
+        this.service = service;
+    }
+
+    // Exportação completa do tenant: from inclusivo, to exclusivo (ISO-8601), gzip=true devolve um .gz
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ORG_ADMIN')")
+    public void export(@RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format,
+                       @RequestParam(value = "from", required = false)
+                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                       @RequestParam(value = "to", required = false)
+                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                       @RequestParam(value = "action", required = false) String action,
+                       @RequestParam(value = "gzip", defaultValue = "false") boolean gzip,
+                       HttpServletResponse response) throws IOException {
+        String filename = "audit-logs." + format.getExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : format.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            try (GZIPOutputStream zip = new GZIPOutputStream(out, 64 * 1024)) {
+                service.export(TenantContext.getCurrentTenantId(), from, to, action, format, zip);
+            }
+        } else {
+            service.export(TenantContext.getCurrentTenantId(), from, to, action, format, out);
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.setecolinas.kanban_project.controller;
+
+import br.com.setecolinas.kanban_project.board.BoardEventStream;
+import br.com.setecolinas.kanban_project.board.BoardService;
+import br.com.setecolinas.kanban_project.dto.BoardDTO;
+import br.com.setecolinas.kanban_project.security.TenantContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/board")
+public class BoardController {
+
+    private final BoardService service;
+    private final BoardEventStream stream;
+
+    public BoardController(BoardService service, BoardEventStream stream) {
+        this.service = service;
+        this.stream = stream;
+    }
+
+    // Uma coluna por status com o total e os primeiros ?limit cards (padrão 20, máximo 100)
+    @GetMapping
+    public ResponseEntity<BoardDTO> board(@RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok(service.board(limit));
+    }
+
+    // SSE com created/updated/transitioned/deleted do tenant; o EventSource reenvia o Last-Event-ID ao reconectar
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return stream.subscribe(TenantContext.getCurrentTenantId(), lastEventId)
+                .map(emitter -> ResponseEntity.ok()
+                        .header("X-Accel-Buffering", "no")
+                        .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                        .body(emitter))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, "30")
+                        .build());
+    }
+}
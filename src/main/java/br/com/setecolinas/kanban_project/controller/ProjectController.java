@@ -1,5 +1,9 @@
 package br.com.setecolinas.kanban_project.controller;
 
+import br.com.setecolinas.kanban_project.dto.BulkResultDTO;
+import br.com.setecolinas.kanban_project.dto.CountMode;
+import br.com.setecolinas.kanban_project.dto.CursorPage;
+import br.com.setecolinas.kanban_project.dto.ProjectFilter;
 import br.com.setecolinas.kanban_project.dto.ProjectRequestDTO;
 import br.com.setecolinas.kanban_project.dto.ProjectResponseDTO;
 import br.com.setecolinas.kanban_project.model.enums.ProjectStatus;
@@ -7,10 +11,12 @@ import br.com.setecolinas.kanban_project.service.ProjectService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -28,9 +34,38 @@ public class ProjectController {
         return ResponseEntity.created(URI.create("/api/projects/" + out.id())).body(out);
     }
 
+    // Até ProjectService.BULK_MAX_ITEMS itens; falha de um item vem no resultado dele, sem desfazer os demais
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkResultDTO> createAll(@RequestBody List<ProjectRequestDTO> dtos) {
+        return ResponseEntity.ok(service.createAll(dtos));
+    }
+
+    // Sem filtros nem sort usa a listagem com cache; ex.: ?status=ATRASADO&plannedEndFrom=2026-10-01&plannedEndTo=2026-10-31
     @GetMapping
-    public ResponseEntity<Page<ProjectResponseDTO>> findAll(Pageable pageable) {
-        return ResponseEntity.ok(service.findAll(pageable));
+    public ResponseEntity<Page<ProjectResponseDTO>> findAll(Pageable pageable, @ModelAttribute ProjectFilter filter) {
+        return ResponseEntity.ok(service.findAll(filter, pageable));
+    }
+
+    // ?count=NONE devolve um Slice (sem COUNT); ?count=APPROXIMATE usa o total em cache do tenant.
+    // APPROXIMATE + filtro responde 400 (o total em cache é do tenant inteiro)
+    @GetMapping(params = "count")
+    public ResponseEntity<Slice<ProjectResponseDTO>> findAll(
+            Pageable pageable, @RequestParam("count") CountMode count, @ModelAttribute ProjectFilter filter) {
+        return ResponseEntity.ok(service.findAll(filter, pageable, count));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<ProjectResponseDTO>> findAfter(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(service.findAfter(after, size));
+    }
+
+    // Status, atraso e % restante calculados na consulta; ?minDelay=N filtra atrasados, sort=daysDelay,desc
+    @GetMapping("/live")
+    public ResponseEntity<Page<ProjectResponseDTO>> findAllLive(
+            Pageable pageable, @RequestParam(value = "minDelay", required = false) Integer minDelay) {
+        return ResponseEntity.ok(service.findAllLive(pageable, minDelay));
     }
 
     @GetMapping("/{id}")
@@ -50,6 +85,13 @@ public class ProjectController {
         return ResponseEntity.ok(service.transition(id, target));
     }
 
+    // Corpo: lista de ids; ex.: POST /api/projects/bulk/transition?target=CONCLUIDO
+    @PostMapping("/bulk/transition")
+    public ResponseEntity<BulkResultDTO> transitionAll(@RequestBody List<Long> ids,
+                                                       @RequestParam("target") ProjectStatus target) {
+        return ResponseEntity.ok(service.transitionAll(ids, target));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         service.delete(id);
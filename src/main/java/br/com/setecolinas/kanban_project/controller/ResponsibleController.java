@@ -1,11 +1,14 @@
 package br.com.setecolinas.kanban_project.controller;
 
+import br.com.setecolinas.kanban_project.dto.CountMode;
+import br.com.setecolinas.kanban_project.dto.CursorPage;
 import br.com.setecolinas.kanban_project.dto.ResponsibleRequestDTO;
 import br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO;
 import br.com.setecolinas.kanban_project.service.ResponsibleService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -35,6 +38,24 @@ public class ResponsibleController {
         return ResponseEntity.ok(service.findAll(search, pageable));
     }
 
+    // ?count=NONE devolve um Slice (sem COUNT); ?count=APPROXIMATE usa o total em cache do tenant.
+    // APPROXIMATE + search responde 400 (o total em cache é do tenant inteiro)
+    @GetMapping(params = "count")
+    public ResponseEntity<Slice<ResponsibleResponseDTO>> findAll(
+            @RequestParam(value = "search", required = false) String search,
+            Pageable pageable,
+            @RequestParam("count") CountMode count) {
+        return ResponseEntity.ok(service.findAll(search, pageable, count));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<ResponsibleResponseDTO>> findAfter(
+            @RequestParam(value = "search", required = false) String search,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(service.findAfter(search, after, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ResponsibleResponseDTO> findById(@PathVariable Long id) {
         return ResponseEntity.ok(service.findById(id));
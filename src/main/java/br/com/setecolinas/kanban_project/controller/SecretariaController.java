@@ -1,11 +1,14 @@
 package br.com.setecolinas.kanban_project.controller;
 
+import br.com.setecolinas.kanban_project.dto.CountMode;
+import br.com.setecolinas.kanban_project.dto.CursorPage;
 import br.com.setecolinas.kanban_project.dto.SecretariaRequestDTO;
 import br.com.setecolinas.kanban_project.dto.SecretariaResponseDTO;
 import br.com.setecolinas.kanban_project.service.SecretariaService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -33,6 +36,20 @@ public class SecretariaController {
         return ResponseEntity.ok(service.findAll(pageable));
     }
 
+    // ?count=NONE devolve um Slice (sem COUNT); ?count=APPROXIMATE usa o total em cache do tenant
+    @GetMapping(params = "count")
+    public ResponseEntity<Slice<SecretariaResponseDTO>> findAll(
+            Pageable pageable, @RequestParam("count") CountMode count) {
+        return ResponseEntity.ok(service.findAll(pageable, count));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<SecretariaResponseDTO>> findAfter(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return ResponseEntity.ok(service.findAfter(after, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<SecretariaResponseDTO> findById(@PathVariable Long id) {
         return ResponseEntity.ok(service.findById(id));
@@ -0,0 +1,7 @@
+package br.com.setecolinas.kanban_project.dto;
+
+import java.util.List;
+
+/** Coluna do quadro: total de cards do status e os primeiros {@code limit} deles. */
+public record BoardColumnDTO(String status, long count, List<ProjectResponseDTO> cards) {
+}
@@ -0,0 +1,6 @@
+package br.com.setecolinas.kanban_project.dto;
+
+import java.util.List;
+
+public record BoardDTO(List<BoardColumnDTO> columns) {
+}
@@ -0,0 +1,22 @@
+package br.com.setecolinas.kanban_project.dto;
+
+/**
+ * Resultado de um item de uma operação em lote. {@code index} é a posição do item na requisição;
+ * {@code project} vem só nos itens com sucesso e {@code error} só nos que falharam.
+ */
+public record BulkItemResultDTO(
+        int index,
+        Long id,
+        boolean success,
+        String error,
+        ProjectResponseDTO project
+) {
+
+    public static BulkItemResultDTO ok(int index, ProjectResponseDTO project) {
+        return new BulkItemResultDTO(index, project.id(), true, null, project);
+    }
+
+    public static BulkItemResultDTO failed(int index, Long id, String error) {
+        return new BulkItemResultDTO(index, id, false, error, null);
+    }
+}
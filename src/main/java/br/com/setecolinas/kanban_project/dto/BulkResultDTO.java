@@ -0,0 +1,16 @@
+package br.com.setecolinas.kanban_project.dto;
+
+import java.util.List;
+
+/** Resumo de uma operação em lote, com um item por entrada da requisição, na mesma ordem. */
+public record BulkResultDTO(
+        int succeeded,
+        int failed,
+        List<BulkItemResultDTO> items
+) {
+
+    public static BulkResultDTO of(List<BulkItemResultDTO> items) {
+        int succeeded = (int) items.stream().filter(BulkItemResultDTO::success).count();
+        return new BulkResultDTO(succeeded, items.size() - succeeded, items);
+    }
+}
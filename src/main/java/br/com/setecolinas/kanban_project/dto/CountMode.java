@@ -0,0 +1,15 @@
+package br.com.setecolinas.kanban_project.dto;
+
+/**
+ * Como o total é calculado nas listagens paginadas.
+ * <ul>
+ *     <li>{@code EXACT}: COUNT(*) a cada chamada;</li>
+ *     <li>{@code NONE}: sem total, apenas se há próxima página ({@code Slice});</li>
+ *     <li>{@code APPROXIMATE}: total mantido em cache por tenant, ajustado em create/delete.</li>
+ * </ul>
+ */
+public enum CountMode {
+    EXACT,
+    NONE,
+    APPROXIMATE
+}
@@ -0,0 +1,28 @@
+package br.com.setecolinas.kanban_project.dto;
+
+import br.com.setecolinas.kanban_project.exceptions.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posição opaca na paginação por keyset: chave de ordenação + id como desempate.
+ * Codificada em Base64 URL-safe para o cliente tratá-la apenas como token.
+ */
+public record Cursor(String sortKey, Long id) {
+
+    public String encode() {
+        String raw = id + ":" + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            return new Cursor(raw.substring(sep + 1), Long.valueOf(raw.substring(0, sep)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BusinessException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.setecolinas.kanban_project.dto;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página da paginação por cursor: não calcula total, apenas se existe próxima página.
+ */
+public record CursorPage<T>(List<T> content, List<String> cursors, String nextCursor, boolean hasNext) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /** Limita o tamanho e pede uma linha extra para saber se há próxima página sem COUNT. */
+    public static Pageable probe(Integer size) {
+        return PageRequest.of(0, clamp(size) + 1);
+    }
+
+    public static <T> CursorPage<T> of(List<T> rows, Integer size, Function<T, Cursor> cursorOf) {
+        int limit = clamp(size);
+        boolean hasNext = rows.size() > limit;
+        List<T> content = hasNext ? rows.subList(0, limit) : rows;
+        List<String> cursors = content.stream().map(row -> cursorOf.apply(row).encode()).toList();
+        return new CursorPage<>(content, cursors, cursors.isEmpty() ? null : cursors.get(cursors.size() - 1), hasNext);
+    }
+
+    private static int clamp(Integer size) {
+        if (size == null || size <= 0) return DEFAULT_SIZE;
+        return Math.min(size, MAX_SIZE);
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.setecolinas.kanban_project.dto;
+
+import br.com.setecolinas.kanban_project.model.enums.ProjectStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Filtros opcionais da listagem de projetos; campos nulos não geram predicado.
+ * Intervalos de data são inclusivos e {@code minDelay} conta dias de atraso (>= 1).
+ */
+public record ProjectFilter(
+        Set<ProjectStatus> status,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate plannedStartFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate plannedStartTo,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate plannedEndFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate plannedEndTo,
+        Integer minDelay,
+        Long responsibleId,
+        Long secretariaId
+) {
+
+    /** Propriedades aceitas no {@code sort} da listagem filtrada. */
+    public static final Set<String> SORTABLE = Set.of("id", "name", "status", "plannedStart", "plannedEnd", "daysDelay");
+
+    public boolean isEmpty() {
+        return (status == null || status.isEmpty()) && plannedStartFrom == null && plannedStartTo == null
+                && plannedEndFrom == null && plannedEndTo == null && minDelay == null
+                && responsibleId == null && secretariaId == null;
+    }
+}
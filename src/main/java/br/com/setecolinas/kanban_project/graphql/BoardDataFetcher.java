@@ -0,0 +1,22 @@
+package br.com.setecolinas.kanban_project.graphql;
+
+import br.com.setecolinas.kanban_project.board.BoardService;
+import br.com.setecolinas.kanban_project.dto.BoardDTO;
+import com.netflix.graphql.dgs.DgsComponent;
+import com.netflix.graphql.dgs.DgsQuery;
+import com.netflix.graphql.dgs.InputArgument;
+
+@DgsComponent
+public class BoardDataFetcher {
+
+    private final BoardService boardService;
+
+    public BoardDataFetcher(BoardService boardService) {
+        this.boardService = boardService;
+    }
+
+    @DgsQuery
+    public BoardDTO board(@InputArgument Integer limit) {
+        return boardService.board(limit);
+    }
+}
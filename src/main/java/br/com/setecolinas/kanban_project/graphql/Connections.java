@@ -0,0 +1,33 @@
+package br.com.setecolinas.kanban_project.graphql;
+
+import br.com.setecolinas.kanban_project.dto.CursorPage;
+import graphql.relay.Connection;
+import graphql.relay.DefaultConnection;
+import graphql.relay.DefaultConnectionCursor;
+import graphql.relay.DefaultEdge;
+import graphql.relay.DefaultPageInfo;
+import graphql.relay.Edge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converte {@link CursorPage} em conexões no formato Relay (edges + pageInfo).
+ */
+final class Connections {
+
+    private Connections() {}
+
+    static <T> Connection<T> of(CursorPage<T> page, boolean hasPrevious) {
+        List<Edge<T>> edges = new ArrayList<>(page.content().size());
+        for (int i = 0; i < page.content().size(); i++) {
+            edges.add(new DefaultEdge<>(page.content().get(i), new DefaultConnectionCursor(page.cursors().get(i))));
+        }
+        DefaultPageInfo pageInfo = new DefaultPageInfo(
+                edges.isEmpty() ? null : edges.get(0).getCursor(),
+                edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor(),
+                hasPrevious,
+                page.hasNext());
+        return new DefaultConnection<>(edges, pageInfo);
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.setecolinas.kanban_project.graphql;
+
+import br.com.setecolinas.kanban_project.exceptions.BusinessException;
+import br.com.setecolinas.kanban_project.exceptions.NotFoundException;
+import com.netflix.graphql.dgs.exceptions.DefaultDataFetcherExceptionHandler;
+import com.netflix.graphql.types.errors.TypedGraphQLError;
+import graphql.GraphQLError;
+import graphql.execution.DataFetcherExceptionHandler;
+import graphql.execution.DataFetcherExceptionHandlerParameters;
+import graphql.execution.DataFetcherExceptionHandlerResult;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Equivalente GraphQL do {@code GlobalExceptionHandler}: {@link BusinessException} vira {@code BAD_REQUEST} e
+ * {@link NotFoundException} vira {@code NOT_FOUND}, com a mensagem original. O resto segue o tratamento padrão
+ * do DGS ({@code INTERNAL}).
+ */
+@Component
+public class GraphQLExceptionHandler implements DataFetcherExceptionHandler {
+
+    private final DataFetcherExceptionHandler fallback = new DefaultDataFetcherExceptionHandler();
+
+    @Override
+    public CompletableFuture<DataFetcherExceptionHandlerResult> handleException(DataFetcherExceptionHandlerParameters params) {
+        Throwable e = params.getException();
+        TypedGraphQLError.Builder builder;
+        if (e instanceof BusinessException) {
+            builder = TypedGraphQLError.newBadRequestBuilder();
+        } else if (e instanceof NotFoundException) {
+            builder = TypedGraphQLError.newNotFoundBuilder();
+        } else {
+            return fallback.handleException(params);
+        }
+        GraphQLError error = builder.message(e.getMessage())
+                .path(params.getPath())
+                .location(params.getSourceLocation())
+                .build();
+        return CompletableFuture.completedFuture(DataFetcherExceptionHandlerResult.newResult().error(error).build());
+    }
+}
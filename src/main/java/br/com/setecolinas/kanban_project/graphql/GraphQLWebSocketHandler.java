@@ -0,0 +1,272 @@
+package br.com.setecolinas.kanban_project.graphql;
+
+import br.com.setecolinas.kanban_project.security.ClaimsPrincipal;
+import br.com.setecolinas.kanban_project.security.JwtAuthenticationFilter;
+import br.com.setecolinas.kanban_project.security.JwtClaims;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.graphql.dgs.DgsQueryExecutor;
+import graphql.ExecutionResult;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.SubProtocolCapable;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transporte das subscriptions GraphQL no protocolo {@code graphql-transport-ws}.
+ * <p>
+ * O token vai no payload do {@code connection_init} ({@code Authorization: Bearer ...}), já que o navegador
+ * não manda cabeçalho no handshake; sem ele vale o usuário autenticado no próprio handshake. Cada operação é
+ * executada pelo DGS com o SecurityContext da conexão, e os resultados seguem por um scheduler próprio com
+ * prefetch pequeno: quem não consome acumula no buffer do {@link SubscriptionFeed}, não na thread do commit.
+ * Envios para um socket travado estouram o limite do decorator e derrubam só essa conexão.
+ * <p>
+ * A conexão é encerrada com 4401 quando o token expira; revogação e desativação do usuário são conferidas
+ * a cada {@code subscribe} e antes de entregar cada evento.
+ */
+public class GraphQLWebSocketHandler extends TextWebSocketHandler implements SubProtocolCapable {
+
+    static final String PROTOCOL = "graphql-transport-ws";
+
+    private static final Logger log = LoggerFactory.getLogger(GraphQLWebSocketHandler.class);
+
+    private static final String STATE = "graphqlWsState";
+    private static final CloseStatus UNAUTHORIZED = new CloseStatus(4401, "Unauthorized");
+    private static final int PREFETCH = 8;
+
+    private final DgsQueryExecutor executor;
+    private final JwtAuthenticationFilter authenticator;
+    private final ObjectMapper objectMapper;
+    private final Scheduler scheduler;
+    private final Duration initTimeout;
+    private final int sendTimeLimitMs;
+    private final int sendBufferSizeLimit;
+
+    public GraphQLWebSocketHandler(DgsQueryExecutor executor, JwtAuthenticationFilter authenticator,
+                                   ObjectMapper objectMapper, Scheduler scheduler, Duration initTimeout,
+                                   int sendTimeLimitMs, int sendBufferSizeLimit) {
+        this.executor = executor;
+        this.authenticator = authenticator;
+        this.objectMapper = objectMapper;
+        this.scheduler = scheduler;
+        this.initTimeout = initTimeout;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+    }
+
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(PROTOCOL);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        WebSocketSession out = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, sendBufferSizeLimit);
+        session.getAttributes().put(STATE, new State(out));
+        Schedulers.parallel().schedule(() -> {
+            if (state(session).authentication == null) {
+                close(session, new CloseStatus(4408, "Connection initialisation timeout"));
+            }
+        }, initTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        State state = state(session);
+        JsonNode msg;
+        try {
+            msg = objectMapper.readTree(message.getPayload());
+        } catch (JsonProcessingException e) {
+            close(session, new CloseStatus(4400, "Invalid message"));
+            return;
+        }
+        String id = msg.path("id").asText(null);
+        switch (msg.path("type").asText()) {
+            case "connection_init" -> init(session, state, msg.path("payload"));
+            case "ping" -> send(state, Map.of("type", "pong"));
+            case "pong" -> { }
+            case "subscribe" -> {
+                if (!authenticator.isStillValid(state.authentication)) {
+                    close(session, UNAUTHORIZED);
+                } else if (id == null || state.operations.containsKey(id)) {
+                    close(session, new CloseStatus(4409, "Subscriber for " + id + " already exists"));
+                } else {
+                    subscribe(session, state, id, msg.path("payload"));
+                }
+            }
+            case "complete" -> {
+                Disposable operation = id == null ? null : state.operations.remove(id);
+                if (operation != null) operation.dispose();
+            }
+            default -> close(session, new CloseStatus(4400, "Unknown message type"));
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        State state = (State) session.getAttributes().get(STATE);
+        if (state != null) {
+            if (state.expiry != null) state.expiry.dispose();
+            state.operations.values().forEach(Disposable::dispose);
+            state.operations.clear();
+        }
+    }
+
+    private void init(WebSocketSession session, State state, JsonNode payload) throws IOException {
+        if (state.initialised) {
+            close(session, new CloseStatus(4429, "Too many initialisation requests"));
+            return;
+        }
+        state.initialised = true;
+        String header = payload.path("Authorization").asText(payload.path("authorization").asText(""));
+        String jwt = header.startsWith("Bearer ") ? header.substring(7) : header;
+        Authentication authentication = authenticator.authenticate(jwt)
+                .map(Authentication.class::cast)
+                .orElseGet(() -> handshakeAuthentication(session));
+        if (authentication == null) {
+            close(session, new CloseStatus(4403, "Forbidden"));
+            return;
+        }
+        state.authentication = authentication;
+        if (authentication.getDetails() instanceof JwtClaims claims && claims.expiresAt() != null) {
+            long delayMs = Math.max(0, Duration.between(Instant.now(), claims.expiresAt()).toMillis());
+            state.expiry = Schedulers.parallel().schedule(() -> close(session, UNAUTHORIZED), delayMs, TimeUnit.MILLISECONDS);
+        }
+        send(state, Map.of("type", "connection_ack"));
+    }
+
+    private static Authentication handshakeAuthentication(WebSocketSession session) {
+        if (session.getPrincipal() instanceof Authentication auth
+                && auth.getPrincipal() instanceof ClaimsPrincipal) {
+            return auth;
+        }
+        return null;
+    }
+
+    private void subscribe(WebSocketSession session, State state, String id, JsonNode payload) throws IOException {
+        String query = payload.path("query").asText();
+        String operationName = payload.path("operationName").asText(null);
+        Map<String, Object> variables = toMap(payload.path("variables"));
+        Map<String, Object> extensions = toMap(payload.path("extensions"));
+
+        ExecutionResult result;
+        SecurityContextHolder.getContext().setAuthentication(state.authentication);
+        try {
+            result = executor.execute(query, variables, extensions, null, operationName, null);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        if (!result.getErrors().isEmpty()) {
+            send(state, message(id, "error", result.toSpecification().get("errors")));
+            return;
+        }
+        if (!(result.getData() instanceof Publisher<?> publisher)) {
+            // Query/mutation pelo mesmo socket: um next e o complete
+            send(state, message(id, "next", result.toSpecification()));
+            send(state, Map.of("id", id, "type", "complete"));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Publisher<ExecutionResult> events = (Publisher<ExecutionResult>) publisher;
+        // Registrada antes do subscribe: um complete síncrono já encontra e remove a própria entrada
+        Disposable.Swap operation = Disposables.swap();
+        state.operations.put(id, operation);
+        operation.update(Flux.from(events)
+                .publishOn(scheduler, PREFETCH)
+                .subscribe(
+                        next -> {
+                            if (authenticator.isStillValid(state.authentication)) {
+                                sendQuietly(state, message(id, "next", next.toSpecification()));
+                            } else {
+                                close(session, UNAUTHORIZED);
+                            }
+                        },
+                        error -> {
+                            log.warn("action=subscription.failed id={} error={}", id, error.getMessage());
+                            state.operations.remove(id, operation);
+                            sendQuietly(state, message(id, "error", List.of(Map.of("message", "Subscription failed"))));
+                        },
+                        () -> {
+                            state.operations.remove(id, operation);
+                            sendQuietly(state, Map.of("id", id, "type", "complete"));
+                        }));
+        log.info("action=subscription.started id={} operation={}", id, operationName);
+    }
+
+    private Map<String, Object> toMap(JsonNode node) {
+        if (node == null || !node.isObject()) return Map.of();
+        @SuppressWarnings("unchecked")
+        Map<String, Object> map = objectMapper.convertValue(node, Map.class);
+        return map;
+    }
+
+    private static Map<String, Object> message(String id, String type, Object payload) {
+        Map<String, Object> msg = new LinkedHashMap<>();
+        msg.put("id", id);
+        msg.put("type", type);
+        msg.put("payload", payload);
+        return msg;
+    }
+
+    private void send(State state, Map<String, Object> msg) throws IOException {
+        state.out.sendMessage(new TextMessage(objectMapper.writeValueAsString(msg)));
+    }
+
+    private void sendQuietly(State state, Map<String, Object> msg) {
+        try {
+            send(state, msg);
+        } catch (IOException | RuntimeException e) {
+            // Socket fechado ou limite do decorator estourado: a sessão já está sendo encerrada
+            log.debug("action=subscription.send.failed error={}", e.getMessage());
+        }
+    }
+
+    private static void close(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("action=subscription.close.failed error={}", e.getMessage());
+        }
+    }
+
+    private static State state(WebSocketSession session) {
+        return (State) session.getAttributes().get(STATE);
+    }
+
+    private static final class State {
+
+        private final WebSocketSession out;
+        private final Map<String, Disposable> operations = new ConcurrentHashMap<>();
+        private volatile boolean initialised;
+        private volatile Authentication authentication;
+        private volatile Disposable expiry;
+
+        State(WebSocketSession out) {
+            this.out = out;
+        }
+    }
+}
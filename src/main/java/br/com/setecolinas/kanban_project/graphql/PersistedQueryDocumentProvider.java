@@ -0,0 +1,115 @@
+package br.com.setecolinas.kanban_project.graphql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Documentos GraphQL já parseados e validados, guardados por SHA-256 do texto da query num cache LRU limitado.
+ * <p>
+ * Aceita o protocolo de persisted queries automáticas do Apollo: o cliente manda só
+ * {@code extensions.persistedQuery.sha256Hash}; se o hash não está no cache a resposta é
+ * {@code PersistedQueryNotFound} e o cliente reenvia com o texto, que é conferido contra o hash. Queries
+ * comuns (sem hash) usam o mesmo cache. No modo allow-list só passam as queries do manifesto, por hash ou
+ * por texto; qualquer outra é recusada antes do parse.
+ */
+public class PersistedQueryDocumentProvider implements PreparsedDocumentProvider {
+
+    static final String NOT_FOUND = "PersistedQueryNotFound";
+    static final String ID_INVALID = "PersistedQueryIdInvalid";
+    static final String NOT_ALLOWED = "PersistedQueryNotAllowed";
+
+    private final Cache<String, PreparsedDocumentEntry> documents;
+    private final Map<String, String> allowList;
+    private final boolean allowListOnly;
+
+    public PersistedQueryDocumentProvider(long maximumSize, Map<String, String> allowList, boolean allowListOnly,
+                                          MeterRegistry meterRegistry) {
+        this.documents = Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build();
+        this.allowList = Map.copyOf(allowList);
+        this.allowListOnly = allowListOnly;
+        CaffeineCacheMetrics.monitor(meterRegistry, documents, "graphqlDocuments");
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput input,
+                                                                      Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+        return CompletableFuture.completedFuture(document(input, parseAndValidate));
+    }
+
+    private PreparsedDocumentEntry document(ExecutionInput input, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate) {
+        String requested = requestedHash(input);
+        String query = isPersistedOnly(input.getQuery()) ? null : input.getQuery();
+        if (requested == null && query == null) {
+            return error("Query is missing", "QUERY_MISSING", null);
+        }
+
+        String hash = query != null ? sha256(query) : requested;
+        if (requested != null && !requested.equals(hash)) {
+            return error(ID_INVALID, "PERSISTED_QUERY_ID_INVALID", requested);
+        }
+        if (allowListOnly) {
+            query = allowList.get(hash);
+            if (query == null) {
+                return error(NOT_ALLOWED, "PERSISTED_QUERY_NOT_ALLOWED", hash);
+            }
+        }
+
+        PreparsedDocumentEntry cached = documents.getIfPresent(hash);
+        if (cached != null) {
+            return cached;
+        }
+        if (query == null) {
+            return error(NOT_FOUND, "PERSISTED_QUERY_NOT_FOUND", hash);
+        }
+        String text = query;
+        PreparsedDocumentEntry entry = parseAndValidate.apply(input.transform(b -> b.query(text)));
+        // Só documentos válidos: query inválida não ocupa espaço de quem está em uso
+        if (!entry.hasErrors()) {
+            documents.put(hash, entry);
+        }
+        return entry;
+    }
+
+    private static String requestedHash(ExecutionInput input) {
+        if (input.getExtensions().get("persistedQuery") instanceof Map<?, ?> persisted
+                && persisted.get("sha256Hash") instanceof String hash && !hash.isBlank()) {
+            return hash.toLowerCase(Locale.ROOT);
+        }
+        return null;
+    }
+
+    private static boolean isPersistedOnly(String query) {
+        return query == null || query.isBlank() || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query);
+    }
+
+    private static PreparsedDocumentEntry error(String message, String code, String hash) {
+        GraphqlErrorBuilder<?> error = GraphqlErrorBuilder.newError().message(message);
+        error.extensions(hash == null ? Map.of("code", code) : Map.of("code", code, "persistedQueryId", hash));
+        return new PreparsedDocumentEntry(error.build());
+    }
+
+    public static String sha256(String query) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
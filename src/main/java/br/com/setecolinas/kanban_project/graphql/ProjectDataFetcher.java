@@ -1,38 +1,128 @@
 package br.com.setecolinas.kanban_project.graphql;
 
+import br.com.setecolinas.kanban_project.board.ProjectChangedEvent;
+import br.com.setecolinas.kanban_project.dto.BulkResultDTO;
+import br.com.setecolinas.kanban_project.dto.ProjectFilter;
 import br.com.setecolinas.kanban_project.dto.ProjectRequestDTO;
 import br.com.setecolinas.kanban_project.dto.ProjectResponseDTO;
+import br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO;
+import br.com.setecolinas.kanban_project.exceptions.BusinessException;
 import br.com.setecolinas.kanban_project.model.enums.ProjectStatus;
+import br.com.setecolinas.kanban_project.security.TenantContext;
 import br.com.setecolinas.kanban_project.service.ProjectService;
 import com.netflix.graphql.dgs.*;
+import graphql.relay.Connection;
+import org.dataloader.DataLoader;
+import org.reactivestreams.Publisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @DgsComponent
 public class ProjectDataFetcher {
 
     private final ProjectService projectService;
+    private final SubscriptionFeed feed;
 
-    public ProjectDataFetcher(ProjectService projectService) {
+    public ProjectDataFetcher(ProjectService projectService, SubscriptionFeed feed) {
         this.projectService = projectService;
+        this.feed = feed;
     }
 
     // --- Queries ---
 
     @DgsQuery
     public Page<ProjectResponseDTO> projects(@InputArgument Integer page,
-                                             @InputArgument Integer size) {
+                                             @InputArgument Integer size,
+                                             @InputArgument Map<String, Object> filter,
+                                             @InputArgument List<String> sort) {
         int p = (page != null) ? page : 0;
         int s = (size != null) ? size : 10;
-        return projectService.findAll(PageRequest.of(p, s));
+        // Mesmo roteamento do REST: sem filtro e sem sort o service usa a listagem com cache
+        return projectService.findAll(toFilter(filter), PageRequest.of(p, s, toSort(sort)));
     }
 
+    @DgsQuery
+    public Connection<ProjectResponseDTO> projectsConnection(@InputArgument Integer first,
+                                                             @InputArgument String after) {
+        return Connections.of(projectService.findAfter(after, first), after != null);
+    }
 
     @DgsQuery
     public ProjectResponseDTO project(@InputArgument Long id) {
         return projectService.findById(id);
     }
 
+    // status já chega validado pelo enum do schema; datas e ids inválidos viram BusinessException (BAD_REQUEST)
+    static ProjectFilter toFilter(Map<String, Object> in) {
+        if (in == null) return new ProjectFilter(null, null, null, null, null, null, null, null);
+        @SuppressWarnings("unchecked")
+        List<Object> status = (List<Object>) in.get("status");
+        return new ProjectFilter(
+                status == null ? null : status.stream().map(v -> ProjectStatus.valueOf(v.toString())).collect(Collectors.toSet()),
+                date(in, "plannedStartFrom"),
+                date(in, "plannedStartTo"),
+                date(in, "plannedEndFrom"),
+                date(in, "plannedEndTo"),
+                in.get("minDelay") == null ? null : ((Number) in.get("minDelay")).intValue(),
+                id(in, "responsibleId"),
+                id(in, "secretariaId"));
+    }
+
+    private static LocalDate date(Map<String, Object> in, String field) {
+        Object value = in.get(field);
+        if (value == null) return null;
+        try {
+            return LocalDate.parse(value.toString());
+        } catch (DateTimeParseException e) {
+            throw new BusinessException("Invalid date for " + field + ": " + value + " (expected yyyy-MM-dd)");
+        }
+    }
+
+    private static Long id(Map<String, Object> in, String field) {
+        Object value = in.get(field);
+        if (value == null) return null;
+        try {
+            return Long.valueOf(value.toString());
+        } catch (NumberFormatException e) {
+            throw new BusinessException("Invalid id for " + field + ": " + value);
+        }
+    }
+
+    private static Sort toSort(List<String> sort) {
+        if (sort == null) return Sort.unsorted();
+        return Sort.by(sort.stream().map(entry -> {
+            String[] parts = entry.split(",");
+            boolean desc = parts.length > 1 && parts[1].trim().equalsIgnoreCase("desc");
+            return desc ? Sort.Order.desc(parts[0].trim()) : Sort.Order.asc(parts[0].trim());
+        }).toList());
+    }
+
+    // --- Campos ---
+
+    // Resolvido pelo ResponsibleDataLoader: um IN por página de projetos, não uma consulta por projeto
+    @DgsData.List({
+            @DgsData(parentType = "ProjectResponseDTO", field = "responsibles"),
+            @DgsData(parentType = "Project", field = "responsibles")
+    })
+    public CompletableFuture<List<ResponsibleResponseDTO>> responsibles(DgsDataFetchingEnvironment dfe) {
+        ProjectResponseDTO project = dfe.getSource();
+        if (project == null || project.responsibleIds() == null || project.responsibleIds().isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        DataLoader<Long, ResponsibleResponseDTO> loader = dfe.getDataLoader(ResponsibleDataLoader.NAME);
+        return loader.loadMany(project.responsibleIds().stream().sorted().toList())
+                .thenApply(found -> found.stream().filter(Objects::nonNull).toList());
+    }
+
     // --- Mutations ---
 
     @DgsMutation
@@ -40,6 +130,11 @@ public class ProjectDataFetcher {
         return projectService.create(request);
     }
 
+    @DgsMutation
+    public BulkResultDTO createProjects(@InputArgument(name = "requests") List<ProjectRequestDTO> requests) {
+        return projectService.createAll(requests);
+    }
+
     @DgsMutation
     public ProjectResponseDTO updateProject(@InputArgument Long id,
                                             @InputArgument(name = "request") ProjectRequestDTO request) {
@@ -58,4 +153,18 @@ public class ProjectDataFetcher {
         ProjectStatus targetStatus = ProjectStatus.valueOf(target.toUpperCase());
         return projectService.transition(id, targetStatus);
     }
+
+    @DgsMutation
+    public BulkResultDTO transitionProjects(@InputArgument(name = "ids") List<Long> ids,
+                                            @InputArgument String target) {
+        return projectService.transitionAll(ids, ProjectStatus.valueOf(target.toUpperCase()));
+    }
+
+    // --- Subscriptions ---
+
+    // Tenant lido na assinatura (contexto do connection_init); o stream só traz eventos dele
+    @DgsSubscription
+    public Publisher<ProjectChangedEvent> projectChanged() {
+        return feed.projects(TenantContext.getCurrentTenantId());
+    }
 }
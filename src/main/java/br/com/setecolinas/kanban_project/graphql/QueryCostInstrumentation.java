@@ -0,0 +1,142 @@
+package br.com.setecolinas.kanban_project.graphql;
+
+import br.com.setecolinas.kanban_project.model.enums.PlanType;
+import com.netflix.graphql.dgs.context.DgsContext;
+import graphql.ExecutionResult;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.normalized.ExecutableNormalizedField;
+import graphql.normalized.ExecutableNormalizedOperation;
+import graphql.normalized.ExecutableNormalizedOperationFactory;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLSchema;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Custo e profundidade da operação GraphQL calculados depois da validação e antes de qualquer data fetcher,
+ * sobre a árvore normalizada (fragments e variáveis já resolvidos).
+ * <p>
+ * Custo de um campo = peso + multiplicador × custo dos filhos. O peso vem de {@code weights}
+ * ({@code "Tipo.campo"}); sem entrada, campos com seleção valem 1 e escalares 0. O multiplicador é o
+ * tamanho pedido no argumento {@code size}/{@code first}/{@code limit} (ou {@code default-list-size} quando
+ * o campo aceita o argumento mas ele não veio). Operações acima do orçamento do plano do tenant ou da
+ * profundidade máxima são abortadas com erro GraphQL, sem tocar no banco.
+ */
+public class QueryCostInstrumentation extends SimplePerformantInstrumentation {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCostInstrumentation.class);
+
+    private static final List<String> SIZE_ARGUMENTS = List.of("size", "first", "limit");
+
+    private final Map<String, Integer> weights;
+    private final Map<PlanType, Integer> budgets;
+    private final int maxDepth;
+    private final int defaultListSize;
+    private final Function<String, PlanType> planOf;
+    private final MeterRegistry meterRegistry;
+
+    public QueryCostInstrumentation(Map<String, Integer> weights, Map<PlanType, Integer> budgets, int maxDepth,
+                                    int defaultListSize, Function<String, PlanType> planOf, MeterRegistry meterRegistry) {
+        this.weights = weights;
+        this.budgets = budgets;
+        this.maxDepth = maxDepth;
+        this.defaultListSize = defaultListSize;
+        this.planOf = planOf;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(InstrumentationExecuteOperationParameters parameters,
+                                                                         InstrumentationState state) {
+        ExecutionContext ctx = parameters.getExecutionContext();
+        ExecutableNormalizedOperation operation = ExecutableNormalizedOperationFactory.createExecutableNormalizedOperation(
+                ctx.getGraphQLSchema(), ctx.getOperationDefinition(), ctx.getFragmentsByName(), ctx.getCoercedVariables());
+
+        int depth = 0;
+        long cost = 0;
+        for (ExecutableNormalizedField field : operation.getTopLevelFields()) {
+            if (field.getFieldName().startsWith("__")) continue;
+            depth = Math.max(depth, depth(field));
+            cost = saturatedAdd(cost, cost(field, ctx.getGraphQLSchema()));
+        }
+
+        PlanType plan = plan(ctx);
+        int budget = budgets.getOrDefault(plan, budgets.getOrDefault(PlanType.FREE, Integer.MAX_VALUE));
+        DistributionSummary.builder("graphql.query.cost").tag("plan", plan.name()).register(meterRegistry).record(cost);
+
+        if (depth > maxDepth) {
+            reject("depth", plan, "Query depth " + depth + " exceeds the maximum of " + maxDepth);
+        }
+        if (cost > budget) {
+            reject("cost", plan, "Query cost " + cost + " exceeds the " + plan + " plan budget of " + budget);
+        }
+        return super.beginExecuteOperation(parameters, state);
+    }
+
+    long cost(ExecutableNormalizedField field, GraphQLSchema schema) {
+        long children = 0;
+        for (ExecutableNormalizedField child : field.getChildren()) {
+            children = saturatedAdd(children, cost(child, schema));
+        }
+        String key = field.getObjectTypeNames().iterator().next() + "." + field.getFieldName();
+        int weight = weights.getOrDefault(key, field.getChildren().isEmpty() ? 0 : 1);
+        return saturatedAdd(weight, saturatedMultiply(multiplier(field, schema), children));
+    }
+
+    private long multiplier(ExecutableNormalizedField field, GraphQLSchema schema) {
+        GraphQLFieldDefinition definition = field.getFieldDefinitions(schema).get(0);
+        for (String name : SIZE_ARGUMENTS) {
+            if (definition.getArgument(name) != null) {
+                return field.getResolvedArguments().get(name) instanceof Number n
+                        ? Math.max(1, n.longValue()) : defaultListSize;
+            }
+        }
+        return 1;
+    }
+
+    private static int depth(ExecutableNormalizedField field) {
+        int max = field.getLevel();
+        for (ExecutableNormalizedField child : field.getChildren()) {
+            max = Math.max(max, depth(child));
+        }
+        return max;
+    }
+
+    private PlanType plan(ExecutionContext ctx) {
+        if (!(DgsContext.from(ctx.getGraphQLContext()).getCustomContext() instanceof TenantGraphQLContext context)
+                || context.tenantId() == null) {
+            return PlanType.FREE;
+        }
+        return planOf.apply(context.tenantId());
+    }
+
+    private void reject(String reason, PlanType plan, String message) {
+        Counter.builder("graphql.query.rejected").tag("reason", reason).tag("plan", plan.name())
+                .register(meterRegistry).increment();
+        log.warn("action=graphql.rejected reason={} plan={} message=\"{}\"", reason, plan, message);
+        throw new AbortExecutionException(message);
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long r = a + b;
+        return ((a ^ r) & (b ^ r)) < 0 ? Long.MAX_VALUE : r;
+    }
+
+    private static long saturatedMultiply(long a, long b) {
+        long hi = Math.multiplyHigh(a, b);
+        long lo = a * b;
+        return (hi == 0 && lo >= 0) ? lo : Long.MAX_VALUE;
+    }
+}
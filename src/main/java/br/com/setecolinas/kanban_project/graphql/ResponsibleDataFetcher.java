@@ -2,8 +2,12 @@ package br.com.setecolinas.kanban_project.graphql;
 
 import br.com.setecolinas.kanban_project.dto.ResponsibleRequestDTO;
 import br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO;
+import br.com.setecolinas.kanban_project.security.TenantContext;
+import br.com.setecolinas.kanban_project.service.ResponsibleChangedEvent;
 import br.com.setecolinas.kanban_project.service.ResponsibleService;
 import com.netflix.graphql.dgs.*;
+import graphql.relay.Connection;
+import org.reactivestreams.Publisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
@@ -11,9 +15,11 @@ import org.springframework.data.domain.PageRequest;
 public class ResponsibleDataFetcher {
 
     private final ResponsibleService service;
+    private final SubscriptionFeed feed;
 
-    public ResponsibleDataFetcher(ResponsibleService service) {
+    public ResponsibleDataFetcher(ResponsibleService service, SubscriptionFeed feed) {
         this.service = service;
+        this.feed = feed;
     }
 
     // --- Queries ---
@@ -27,6 +33,13 @@ public class ResponsibleDataFetcher {
         return service.findAll(search, PageRequest.of(p, s));
     }
 
+    @DgsQuery
+    public Connection<ResponsibleResponseDTO> responsiblesConnection(@InputArgument Integer first,
+                                                                     @InputArgument String after,
+                                                                     @InputArgument String search) {
+        return Connections.of(service.findAfter(search, after, first), after != null);
+    }
+
     @DgsQuery
     public ResponsibleResponseDTO responsible(@InputArgument Long id) {
         return service.findById(id);
@@ -50,4 +63,12 @@ public class ResponsibleDataFetcher {
         service.delete(id);
         return true;
     }
+
+    // --- Subscriptions ---
+
+    // Tenant lido na assinatura (contexto do connection_init); o stream só traz eventos dele
+    @DgsSubscription
+    public Publisher<ResponsibleChangedEvent> responsibleChanged() {
+        return feed.responsibles(TenantContext.getCurrentTenantId());
+    }
 }
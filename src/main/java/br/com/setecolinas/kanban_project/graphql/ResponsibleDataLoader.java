@@ -0,0 +1,43 @@
+package br.com.setecolinas.kanban_project.graphql;
+
+import br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO;
+import br.com.setecolinas.kanban_project.repository.ResponsibleRepository;
+import com.netflix.graphql.dgs.DgsDataLoader;
+import com.netflix.graphql.dgs.context.DgsContext;
+import org.dataloader.BatchLoaderEnvironment;
+import org.dataloader.MappedBatchLoaderWithContext;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Carrega em lote os responsáveis pedidos por {@code ProjectResponseDTO.responsibles}: uma página de projetos
+ * vira um único {@code IN} no tenant da requisição, em vez de uma consulta por projeto. O DataLoader é criado
+ * por requisição e guarda o que já carregou, então um id repetido entre projetos é buscado uma vez só. Ids de
+ * outro tenant simplesmente não voltam.
+ */
+@DgsDataLoader(name = ResponsibleDataLoader.NAME, maxBatchSize = 500)
+public class ResponsibleDataLoader implements MappedBatchLoaderWithContext<Long, ResponsibleResponseDTO> {
+
+    public static final String NAME = "responsibles";
+
+    private final ResponsibleRepository repo;
+
+    public ResponsibleDataLoader(ResponsibleRepository repo) {
+        this.repo = repo;
+    }
+
+    @Override
+    public CompletionStage<Map<Long, ResponsibleResponseDTO>> load(Set<Long> ids, BatchLoaderEnvironment environment) {
+        TenantGraphQLContext context = DgsContext.getCustomContext(environment);
+        if (context == null || context.tenantId() == null) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        return CompletableFuture.completedFuture(repo.findDtoByTenantIdAndIdIn(context.tenantId(), ids).stream()
+                .collect(Collectors.toMap(ResponsibleResponseDTO::id, Function.identity())));
+    }
+}
@@ -4,6 +4,7 @@ import br.com.setecolinas.kanban_project.dto.SecretariaRequestDTO;
 import br.com.setecolinas.kanban_project.dto.SecretariaResponseDTO;
 import br.com.setecolinas.kanban_project.service.SecretariaService;
 import com.netflix.graphql.dgs.*;
+import graphql.relay.Connection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
@@ -25,6 +26,12 @@ public class SecretariaDataFetcher {
         return secretariaService.findAll(PageRequest.of(p, s));
     }
 
+    @DgsQuery
+    public Connection<SecretariaResponseDTO> secretariasConnection(@InputArgument Integer first,
+                                                                   @InputArgument String after) {
+        return Connections.of(secretariaService.findAfter(after, first), after != null);
+    }
+
     @DgsQuery
     public SecretariaResponseDTO secretaria(@InputArgument Long id) {
         return secretariaService.findById(id);
@@ -0,0 +1,72 @@
+package br.com.setecolinas.kanban_project.graphql;
+
+import br.com.setecolinas.kanban_project.board.ProjectChangedEvent;
+import br.com.setecolinas.kanban_project.service.ResponsibleChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.function.Function;
+
+/**
+ * Ponte entre os eventos pós-commit dos services e as subscriptions GraphQL.
+ * <p>
+ * Um sink multicast por tipo de evento; cada assinante recebe só o próprio tenant e tem um buffer limitado
+ * que descarta os eventos mais antigos quando o cliente não acompanha, então um assinante lento não atrasa
+ * os demais nem a thread que fez o commit.
+ */
+@Component
+public class SubscriptionFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(SubscriptionFeed.class);
+
+    private final Sinks.Many<ProjectChangedEvent> projects = Sinks.many().multicast().directBestEffort();
+    private final Sinks.Many<ResponsibleChangedEvent> responsibles = Sinks.many().multicast().directBestEffort();
+    private final int bufferSize;
+    private final Counter dropped;
+
+    public SubscriptionFeed(MeterRegistry meterRegistry,
+                            @Value("${app.graphql.subscriptions.buffer-size:256}") int bufferSize) {
+        this.bufferSize = bufferSize;
+        this.dropped = Counter.builder("graphql.subscriptions.dropped").register(meterRegistry);
+    }
+
+    public Flux<ProjectChangedEvent> projects(String tenantId) {
+        return forTenant(projects, tenantId, ProjectChangedEvent::tenantId);
+    }
+
+    public Flux<ResponsibleChangedEvent> responsibles(String tenantId) {
+        return forTenant(responsibles, tenantId, ResponsibleChangedEvent::tenantId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProjectChangedEvent event) {
+        emit(projects, event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ResponsibleChangedEvent event) {
+        emit(responsibles, event);
+    }
+
+    private <T> Flux<T> forTenant(Sinks.Many<T> sink, String tenantId, Function<T, String> tenantOf) {
+        return sink.asFlux()
+                .filter(e -> tenantId.equals(tenantOf.apply(e)))
+                .onBackpressureBuffer(bufferSize, e -> dropped.increment(), BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    // Sinks não aceitam emissão concorrente; commits de threads diferentes passam um por vez
+    private synchronized <T> void emit(Sinks.Many<T> sink, T event) {
+        Sinks.EmitResult result = sink.tryEmitNext(event);
+        if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+            log.warn("action=subscriptions.emit.failed result={}", result);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.setecolinas.kanban_project.graphql;
+
+import br.com.setecolinas.kanban_project.security.TenantContext;
+import com.netflix.graphql.dgs.context.DgsCustomContextBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Contexto próprio de cada execução GraphQL: o tenant é lido uma vez, na thread que recebeu a requisição,
+ * e fica disponível para os DataLoaders, que podem rodar em outra thread sem SecurityContext.
+ * {@code tenantId} é nulo em operações públicas (login/registro).
+ */
+public record TenantGraphQLContext(String tenantId) {
+
+    @Component
+    static class Builder implements DgsCustomContextBuilder<TenantGraphQLContext> {
+
+        @Override
+        public TenantGraphQLContext build() {
+            try {
+                return new TenantGraphQLContext(TenantContext.getCurrentTenantId());
+            } catch (IllegalStateException e) {
+                return new TenantGraphQLContext(null);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import br.com.setecolinas.kanban_project.dto.ProjectRequestDTO;
 import br.com.setecolinas.kanban_project.dto.ProjectResponseDTO;
 import br.com.setecolinas.kanban_project.model.Project;
 import br.com.setecolinas.kanban_project.model.Responsible;
+import br.com.setecolinas.kanban_project.repository.ProjectRepository;
 
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -13,11 +14,23 @@ public final class ProjectMapper {
 
     public static ProjectResponseDTO toResponse(Project p) {
         Set<Long> ids = p.getResponsibles().stream().map(Responsible::getId).collect(Collectors.toSet());
+        return toResponse(p, ids);
+    }
+
+    /** Usa ids de responsáveis já carregados em lote, sem tocar na coleção lazy. */
+    public static ProjectResponseDTO toResponse(Project p, Set<Long> ids) {
         return new ProjectResponseDTO(p.getId(), p.getName(), p.getStatus() == null ? null : p.getStatus().name(),
                 p.getPlannedStart(), p.getPlannedEnd(), p.getActualStart(), p.getActualEnd(),
                 p.getDaysDelay(), p.getPercentTimeRemaining(), ids);
     }
 
+    /** Projeção com os campos derivados calculados no SELECT (ProjectRepository.LIVE_SELECT). */
+    public static ProjectResponseDTO toResponse(ProjectRepository.ProjectLiveView v, Set<Long> ids) {
+        return new ProjectResponseDTO(v.getId(), v.getName(), v.getStatus(),
+                v.getPlannedStart(), v.getPlannedEnd(), v.getActualStart(), v.getActualEnd(),
+                v.getDaysDelay(), v.getPercentTimeRemaining(), ids);
+    }
+
     public static void apply(Project p, ProjectRequestDTO dto) {
         if (dto.name() != null) p.setName(dto.name());
         p.setPlannedStart(dto.plannedStart());
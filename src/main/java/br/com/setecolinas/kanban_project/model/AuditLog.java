@@ -9,11 +9,11 @@ import java.time.Instant;
 @Table(
         name = "audit_logs",
         indexes = {
-                @Index(name = "idx_audit_tenant", columnList = "tenant_id"),
-                @Index(name = "idx_audit_user", columnList = "user_id"),
-                @Index(name = "idx_audit_timestamp", columnList = "timestamp")
+                @Index(name = "idx_audit_tenant_timestamp", columnList = "tenant_id, timestamp"),
+                @Index(name = "idx_audit_user", columnList = "user_id")
         }
 )
+// Em PostgreSQL a tabela é particionada por mês em timestamp (ver AuditLogPartitionManager)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
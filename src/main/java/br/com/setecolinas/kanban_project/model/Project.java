@@ -14,13 +14,19 @@ import java.util.Set;
         indexes = {
                 @Index(name = "idx_project_name", columnList = "name"),
                 @Index(name = "idx_project_tenant", columnList = "tenant_id"),
-                @Index(name = "idx_project_organization", columnList = "organization_id")
+                @Index(name = "idx_project_organization", columnList = "organization_id"),
+                @Index(name = "idx_project_tenant_name_id", columnList = "tenant_id, name, id"),
+                @Index(name = "idx_project_tenant_planned_end", columnList = "tenant_id, planned_end"),
+                @Index(name = "idx_project_tenant_status_planned_end", columnList = "tenant_id, status, planned_end"),
+                @Index(name = "idx_project_tenant_planned_start", columnList = "tenant_id, planned_start")
         }
 )
 public class Project {
 
+    // Sequence com pool (50 ids por nextval): ids conhecidos no persist, então os inserts saem em lote
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "project_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -14,7 +14,9 @@ import java.util.Set;
         indexes = {
                 @Index(name = "idx_responsible_email", columnList = "email"),
                 @Index(name = "idx_responsible_name", columnList = "name"),
-                @Index(name = "idx_responsible_tenant", columnList = "tenant_id")
+                @Index(name = "idx_responsible_tenant", columnList = "tenant_id"),
+                @Index(name = "idx_responsible_tenant_name_id", columnList = "tenant_id, name, id"),
+                @Index(name = "idx_responsible_secretaria", columnList = "secretaria_id")
         }
 )
 public class Responsible {
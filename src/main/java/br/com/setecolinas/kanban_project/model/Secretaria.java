@@ -12,7 +12,8 @@ import java.util.Set;
         name = "secretaria",
         indexes = {
                 @Index(name = "idx_secretaria_nome", columnList = "nome"),
-                @Index(name = "idx_secretaria_tenant", columnList = "tenant_id")
+                @Index(name = "idx_secretaria_tenant", columnList = "tenant_id"),
+                @Index(name = "idx_secretaria_tenant_nome_id", columnList = "tenant_id, nome, id")
         }
 )
 public class Secretaria {
@@ -18,5 +18,9 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
     Page<AuditLog> findByTenantIdAndAction(String tenantId, String action, Pageable pageable);
 
     Page<AuditLog> findByTenantIdAndTimestampBetween(String tenantId, Instant start, Instant end, Pageable pageable);
+
+    // Intervalo semiaberto [start, end): o mês inteiro cai em uma única partição mensal
+    Page<AuditLog> findByTenantIdAndTimestampGreaterThanEqualAndTimestampLessThan(
+            String tenantId, Instant start, Instant end, Pageable pageable);
 }
 
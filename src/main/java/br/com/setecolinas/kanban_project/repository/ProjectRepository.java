@@ -3,12 +3,94 @@ package br.com.setecolinas.kanban_project.repository;
 import br.com.setecolinas.kanban_project.model.Project;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project> {
     // Multi-tenant methods
     Page<Project> findByTenantId(String tenantId, Pageable pageable);
     Optional<Project> findByIdAndTenantId(Long id, String tenantId);
+    List<Project> findByIdInAndTenantId(Collection<Long> ids, String tenantId);
+    // Sem COUNT: busca size + 1 linhas para saber se há próxima página
+    Slice<Project> findSliceByTenantId(String tenantId, Pageable pageable);
+    long countByTenantId(String tenantId);
+
+    /**
+     * Pares (projeto, responsável) de vários projetos em uma única consulta à tabela de junção,
+     * evitando inicializar {@code Project.responsibles} linha a linha.
+     */
+    @Query("select p.id as projectId, r.id as responsibleId from Project p join p.responsibles r " +
+            "where p.id in :projectIds and p.tenantId = :tenantId")
+    List<ResponsibleLink> findResponsibleLinks(@Param("projectIds") Collection<Long> projectIds,
+                                               @Param("tenantId") String tenantId);
+
+    // Paginação por keyset em (tenant_id, name, id): sem OFFSET nem COUNT
+    @Query("select p from Project p where p.tenantId = :tenantId order by p.name, p.id")
+    List<Project> findKeysetFirst(@Param("tenantId") String tenantId, Pageable limit);
+
+    @Query("select p from Project p where p.tenantId = :tenantId " +
+            "and (p.name > :name or (p.name = :name and p.id > :id)) order by p.name, p.id")
+    List<Project> findKeysetAfter(@Param("tenantId") String tenantId, @Param("name") String name,
+                                  @Param("id") Long id, Pageable limit);
+
+    /*
+     * Campos derivados calculados no SELECT para a data :today, espelhando calculateStatus,
+     * calculateDaysDelay e calculatePercentRemaining do ProjectService (status antes dos demais).
+     * O % restante só é positivo quando o status não é A_INICIAR: concluído, iniciado ou início já vencido.
+     */
+    String LIVE_SELECT = "select p.id as id, p.name as name, " +
+            "case when p.actualEnd is not null then 'CONCLUIDO' " +
+            "     when p.actualStart is null and p.plannedStart is null and p.plannedEnd is null then 'A_INICIAR' " +
+            "     when (p.plannedStart < :today and p.actualStart is null) or p.plannedEnd < :today then 'ATRASADO' " +
+            "     when p.actualStart is not null and (p.plannedEnd is null or p.plannedEnd > :today) then 'EM_ANDAMENTO' " +
+            "     else 'A_INICIAR' end as status, " +
+            "p.plannedStart as plannedStart, p.plannedEnd as plannedEnd, " +
+            "p.actualStart as actualStart, p.actualEnd as actualEnd, " +
+            "case when p.actualEnd is null and p.plannedEnd < :today " +
+            "     then cast((:today - p.plannedEnd) by day as Integer) else 0 end as daysDelay, " +
+            "case when p.plannedStart is not null and p.plannedEnd > p.plannedStart and p.plannedEnd > :today " +
+            "          and (p.actualEnd is not null or p.actualStart is not null or p.plannedStart < :today) " +
+            "     then cast((p.plannedEnd - :today) by day as Double) / ((p.plannedEnd - p.plannedStart) by day) * 100.0 " +
+            "     else 0.0 end as percentTimeRemaining " +
+            "from Project p ";
+
+    @Query(value = LIVE_SELECT + "where p.tenantId = :tenantId",
+            countQuery = "select count(p) from Project p where p.tenantId = :tenantId")
+    Page<ProjectLiveView> findLiveByTenantId(@Param("tenantId") String tenantId, @Param("today") LocalDate today,
+                                             Pageable pageable);
+
+    /**
+     * Projetos com pelo menos N dias de atraso: {@code daysDelay >= N} equivale a
+     * {@code plannedEnd <= today - N}, que usa o índice (tenant_id, planned_end).
+     */
+    @Query(value = LIVE_SELECT + "where p.tenantId = :tenantId and p.actualEnd is null and p.plannedEnd <= :cutoff",
+            countQuery = "select count(p) from Project p where p.tenantId = :tenantId " +
+                    "and p.actualEnd is null and p.plannedEnd <= :cutoff")
+    Page<ProjectLiveView> findLiveDelayedByTenantId(@Param("tenantId") String tenantId, @Param("today") LocalDate today,
+                                                    @Param("cutoff") LocalDate cutoff, Pageable pageable);
+
+    interface ProjectLiveView {
+        Long getId();
+        String getName();
+        String getStatus();
+        LocalDate getPlannedStart();
+        LocalDate getPlannedEnd();
+        LocalDate getActualStart();
+        LocalDate getActualEnd();
+        Integer getDaysDelay();
+        Double getPercentTimeRemaining();
+    }
+
+    interface ResponsibleLink {
+        Long getProjectId();
+        Long getResponsibleId();
+    }
 }
@@ -0,0 +1,68 @@
+package br.com.setecolinas.kanban_project.repository;
+
+import br.com.setecolinas.kanban_project.dto.ProjectFilter;
+import br.com.setecolinas.kanban_project.model.Project;
+import br.com.setecolinas.kanban_project.model.Responsible;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Monta o WHERE da listagem filtrada só com os predicados informados, sempre começando por
+ * {@code tenant_id} para aproveitar os índices compostos (tenant_id, status, planned_end),
+ * (tenant_id, planned_end) e (tenant_id, planned_start).
+ */
+public final class ProjectSpecifications {
+
+    private ProjectSpecifications() {}
+
+    public static Specification<Project> matching(String tenantId, ProjectFilter f, LocalDate today) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("tenantId"), tenantId));
+
+            if (f.status() != null && !f.status().isEmpty()) {
+                predicates.add(root.get("status").in(f.status()));
+            }
+            if (f.plannedStartFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("plannedStart"), f.plannedStartFrom()));
+            }
+            if (f.plannedStartTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("plannedStart"), f.plannedStartTo()));
+            }
+            if (f.plannedEndFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("plannedEnd"), f.plannedEndFrom()));
+            }
+            if (f.plannedEndTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("plannedEnd"), f.plannedEndTo()));
+            }
+            if (f.minDelay() != null) {
+                // daysDelay >= N equivale a plannedEnd <= hoje - N (sem depender do valor gravado)
+                predicates.add(cb.isNull(root.get("actualEnd")));
+                predicates.add(cb.lessThanOrEqualTo(root.get("plannedEnd"), today.minusDays(f.minDelay())));
+            }
+            if (f.responsibleId() != null || f.secretariaId() != null) {
+                // EXISTS em vez de JOIN: não duplica o projeto nem afeta o COUNT
+                Subquery<Long> sq = query.subquery(Long.class);
+                Root<Project> sp = sq.correlate(root);
+                Join<Project, Responsible> r = sp.join("responsibles");
+                List<Predicate> sub = new ArrayList<>(2);
+                if (f.responsibleId() != null) {
+                    sub.add(cb.equal(r.get("id"), f.responsibleId()));
+                }
+                if (f.secretariaId() != null) {
+                    sub.add(cb.equal(r.get("secretaria").get("id"), f.secretariaId()));
+                }
+                sq.select(r.get("id")).where(sub.toArray(Predicate[]::new));
+                predicates.add(cb.exists(sq));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
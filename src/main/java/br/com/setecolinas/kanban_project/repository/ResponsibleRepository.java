@@ -1,15 +1,77 @@
 package br.com.setecolinas.kanban_project.repository;
 
+import br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO;
 import br.com.setecolinas.kanban_project.model.Responsible;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ResponsibleRepository extends JpaRepository<Responsible, Long> {
     // Multi-tenant methods
     Page<Responsible> findByTenantId(String tenantId, Pageable pageable);
     Optional<Responsible> findByIdAndTenantId(Long id, String tenantId);
-    Page<Responsible> findByTenantIdAndNameContainingIgnoreCaseOrEmailContainingIgnoreCase(String tenantId, String name, String email, Pageable pageable);
+    List<Responsible> findByTenantIdAndIdIn(String tenantId, Collection<Long> ids);
+    long countByTenantId(String tenantId);
+
+    // Projeções para listagem: leem direto no DTO, sem entidades gerenciadas nem carga da secretaria
+    // (r.secretaria.id é a própria FK, não gera join)
+    @Query(value = "select new br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO(" +
+            "r.id, r.name, r.email, r.role, r.secretaria.id) " +
+            "from Responsible r where r.tenantId = :tenantId",
+            countQuery = "select count(r) from Responsible r where r.tenantId = :tenantId")
+    Page<ResponsibleResponseDTO> findDtoByTenantId(@Param("tenantId") String tenantId, Pageable pageable);
+
+    @Query(value = "select new br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO(" +
+            "r.id, r.name, r.email, r.role, r.secretaria.id) " +
+            "from Responsible r where r.tenantId = :tenantId " +
+            "and (lower(r.name) like lower(concat('%', :search, '%')) or lower(r.email) like lower(concat('%', :search, '%')))",
+            countQuery = "select count(r) from Responsible r where r.tenantId = :tenantId " +
+                    "and (lower(r.name) like lower(concat('%', :search, '%')) or lower(r.email) like lower(concat('%', :search, '%')))")
+    Page<ResponsibleResponseDTO> searchDtoByTenantId(@Param("tenantId") String tenantId, @Param("search") String search,
+                                                     Pageable pageable);
+
+    // Lote do DataLoader do GraphQL: todos os responsáveis de uma página de projetos num único IN
+    @Query("select new br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO(" +
+            "r.id, r.name, r.email, r.role, r.secretaria.id) " +
+            "from Responsible r where r.tenantId = :tenantId and r.id in :ids")
+    List<ResponsibleResponseDTO> findDtoByTenantIdAndIdIn(@Param("tenantId") String tenantId,
+                                                          @Param("ids") Collection<Long> ids);
+
+    // Mesmas projeções retornando Slice: sem COUNT, busca size + 1 linhas
+    @Query("select new br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO(" +
+            "r.id, r.name, r.email, r.role, r.secretaria.id) " +
+            "from Responsible r where r.tenantId = :tenantId")
+    Slice<ResponsibleResponseDTO> findDtoSliceByTenantId(@Param("tenantId") String tenantId, Pageable pageable);
+
+    @Query("select new br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO(" +
+            "r.id, r.name, r.email, r.role, r.secretaria.id) " +
+            "from Responsible r where r.tenantId = :tenantId " +
+            "and (lower(r.name) like lower(concat('%', :search, '%')) or lower(r.email) like lower(concat('%', :search, '%')))")
+    Slice<ResponsibleResponseDTO> searchDtoSliceByTenantId(@Param("tenantId") String tenantId, @Param("search") String search,
+                                                           Pageable pageable);
+
+    // Paginação por keyset em (tenant_id, name, id): sem OFFSET nem COUNT; pattern nulo desliga a busca
+    @Query("select new br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO(" +
+            "r.id, r.name, r.email, r.role, r.secretaria.id) " +
+            "from Responsible r where r.tenantId = :tenantId " +
+            "and (:pattern is null or lower(r.name) like :pattern or lower(r.email) like :pattern) " +
+            "order by r.name, r.id")
+    List<ResponsibleResponseDTO> findKeysetFirst(@Param("tenantId") String tenantId, @Param("pattern") String pattern,
+                                                 Pageable limit);
+
+    @Query("select new br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO(" +
+            "r.id, r.name, r.email, r.role, r.secretaria.id) " +
+            "from Responsible r where r.tenantId = :tenantId " +
+            "and (:pattern is null or lower(r.name) like :pattern or lower(r.email) like :pattern) " +
+            "and (r.name > :name or (r.name = :name and r.id > :id)) " +
+            "order by r.name, r.id")
+    List<ResponsibleResponseDTO> findKeysetAfter(@Param("tenantId") String tenantId, @Param("pattern") String pattern,
+                                                 @Param("name") String name, @Param("id") Long id, Pageable limit);
 }
@@ -1,14 +1,42 @@
 package br.com.setecolinas.kanban_project.repository;
 
+import br.com.setecolinas.kanban_project.dto.SecretariaResponseDTO;
 import br.com.setecolinas.kanban_project.model.Secretaria;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface SecretariaRepository extends JpaRepository<Secretaria, Long> {
     // Multi-tenant methods
     Optional<Secretaria> findByIdAndTenantId(Long id, String tenantId);
     Page<Secretaria> findByTenantId(String tenantId, Pageable pageable);
+    long countByTenantId(String tenantId);
+
+    // Projeção para listagem: lê direto no DTO, sem entidades gerenciadas
+    @Query(value = "select new br.com.setecolinas.kanban_project.dto.SecretariaResponseDTO(s.id, s.nome, s.descricao) " +
+            "from Secretaria s where s.tenantId = :tenantId",
+            countQuery = "select count(s) from Secretaria s where s.tenantId = :tenantId")
+    Page<SecretariaResponseDTO> findDtoByTenantId(@Param("tenantId") String tenantId, Pageable pageable);
+
+    // Mesma projeção retornando Slice: sem COUNT, busca size + 1 linhas
+    @Query("select new br.com.setecolinas.kanban_project.dto.SecretariaResponseDTO(s.id, s.nome, s.descricao) " +
+            "from Secretaria s where s.tenantId = :tenantId")
+    Slice<SecretariaResponseDTO> findDtoSliceByTenantId(@Param("tenantId") String tenantId, Pageable pageable);
+
+    // Paginação por keyset em (tenant_id, nome, id): sem OFFSET nem COUNT
+    @Query("select new br.com.setecolinas.kanban_project.dto.SecretariaResponseDTO(s.id, s.nome, s.descricao) " +
+            "from Secretaria s where s.tenantId = :tenantId order by s.nome, s.id")
+    List<SecretariaResponseDTO> findKeysetFirst(@Param("tenantId") String tenantId, Pageable limit);
+
+    @Query("select new br.com.setecolinas.kanban_project.dto.SecretariaResponseDTO(s.id, s.nome, s.descricao) " +
+            "from Secretaria s where s.tenantId = :tenantId " +
+            "and (s.nome > :nome or (s.nome = :nome and s.id > :id)) order by s.nome, s.id")
+    List<SecretariaResponseDTO> findKeysetAfter(@Param("tenantId") String tenantId, @Param("nome") String nome,
+                                                @Param("id") Long id, Pageable limit);
 }
@@ -0,0 +1,48 @@
+package br.com.setecolinas.kanban_project.security;
+
+import br.com.setecolinas.kanban_project.model.User;
+import br.com.setecolinas.kanban_project.model.enums.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal autenticado, imutável. Montado a partir das claims do JWT (modo stateless) ou copiado
+ * do usuário carregado e mantido em cache pelo {@link PrincipalCache}; nos dois casos a entidade
+ * {@link User} não fica no contexto de segurança.
+ */
+public record ClaimsPrincipal(
+        Long userId,
+        String email,
+        String tenantId,
+        Long organizationId,
+        UserRole role
+) implements Principal {
+
+    public static ClaimsPrincipal from(JwtClaims claims) {
+        return new ClaimsPrincipal(
+                claims.userId(),
+                claims.subject(),
+                claims.tenantId(),
+                claims.organizationId(),
+                UserRole.valueOf(claims.role())
+        );
+    }
+
+    public static ClaimsPrincipal of(User user) {
+        Long organizationId = user.getOrganization() != null ? user.getOrganization().getId() : null;
+        return new ClaimsPrincipal(user.getId(), user.getEmail(), user.getTenantId(), organizationId, user.getRole());
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
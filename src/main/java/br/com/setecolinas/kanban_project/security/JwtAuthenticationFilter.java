@@ -1,7 +1,5 @@
 package br.com.setecolinas.kanban_project.security;
 
-import br.com.setecolinas.kanban_project.model.User;
-import br.com.setecolinas.kanban_project.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,13 +7,16 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Optional;
 
 @Component
@@ -24,7 +25,12 @@ import java.util.Optional;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final TokenDenyList tokenDenyList;
+
+    // Modo stateless: principal montado só com as claims do token, sem acesso ao banco
+    @Value("${app.security.stateless:false}")
+    private boolean stateless;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
@@ -33,24 +39,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String email = tokenProvider.getUsernameFromToken(jwt);
-                String tenantId = tokenProvider.getTenantIdFromToken(jwt);
-
-                Optional<User> user = userRepository.findByEmailAndTenantId(email, tenantId);
-
-                if (user.isPresent() && user.get().isEnabled()) {
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(user.get(), null, user.get().getAuthorities());
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                    // Colocar tenantId no request para usar em filtros posteriores
-                    request.setAttribute("tenantId", tenantId);
-                    log.debug("JWT validado para usuário: {} (tenant: {})", email, tenantId);
-                } else {
-                    log.warn("Usuário não encontrado ou inativo: {} (tenant: {})", email, tenantId);
-                }
-            }
+            authenticate(jwt).ifPresent(authentication -> {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                // Colocar tenantId no request para usar em filtros posteriores
+                request.setAttribute("tenantId", TenantContext.getCurrentTenantId());
+            });
         } catch (Exception ex) {
             log.error("Erro ao processar JWT", ex);
         }
@@ -58,6 +51,68 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Valida o token e monta a autenticação, sem tocar no SecurityContext. Usado também fora do filtro
+     * (ex.: {@code connection_init} das subscriptions via WebSocket). As claims ficam em
+     * {@link Authentication#getDetails()} para {@link #isStillValid(Authentication)}.
+     */
+    public Optional<UsernamePasswordAuthenticationToken> authenticate(String jwt) {
+        Optional<JwtClaims> claims = StringUtils.hasText(jwt) ? tokenProvider.parseClaims(jwt) : Optional.empty();
+        if (claims.isEmpty()) {
+            return Optional.empty();
+        }
+        if (stateless) {
+            return authenticateFromClaims(claims.get());
+        }
+
+        String email = claims.get().subject();
+        String tenantId = claims.get().tenantId();
+
+        Optional<ClaimsPrincipal> principal = principalCache.resolve(email, tenantId);
+
+        if (principal.isEmpty()) {
+            log.warn("Usuário não encontrado ou inativo: {} (tenant: {})", email, tenantId);
+            return Optional.empty();
+        }
+        log.debug("JWT validado para usuário: {} (tenant: {})", email, tenantId);
+        return Optional.of(authentication(principal.get(), claims.get()));
+    }
+
+    /**
+     * Revalida uma autenticação montada por {@link #authenticate(String)} em conexões longas (WebSocket):
+     * deixa de valer quando o token expira, é revogado (stateless) ou o usuário é desativado.
+     */
+    public boolean isStillValid(Authentication authentication) {
+        if (authentication == null || !(authentication.getDetails() instanceof JwtClaims claims)) {
+            return false;
+        }
+        if (claims.expiresAt() != null && !claims.expiresAt().isAfter(Instant.now())) {
+            return false;
+        }
+        if (stateless) {
+            return !tokenDenyList.isRevoked(claims);
+        }
+        return principalCache.resolve(claims.subject(), claims.tenantId()).isPresent();
+    }
+
+    private Optional<UsernamePasswordAuthenticationToken> authenticateFromClaims(JwtClaims claims) {
+        if (tokenDenyList.isRevoked(claims)) {
+            log.warn("Token revogado: {} (tenant: {})", claims.subject(), claims.tenantId());
+            return Optional.empty();
+        }
+
+        ClaimsPrincipal principal = ClaimsPrincipal.from(claims);
+        log.debug("JWT validado (stateless) para usuário: {} (tenant: {})", principal.email(), principal.tenantId());
+        return Optional.of(authentication(principal, claims));
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(ClaimsPrincipal principal, JwtClaims claims) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        authentication.setDetails(claims);
+        return authentication;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
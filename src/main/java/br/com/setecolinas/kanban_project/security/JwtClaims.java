@@ -0,0 +1,17 @@
+package br.com.setecolinas.kanban_project.security;
+
+import java.time.Instant;
+
+/**
+ * Claims de um JWT já verificado, extraídas em uma única validação de assinatura.
+ */
+public record JwtClaims(
+        String subject,
+        Long userId,
+        String tenantId,
+        Long organizationId,
+        String role,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+}
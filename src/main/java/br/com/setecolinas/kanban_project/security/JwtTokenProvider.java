@@ -3,24 +3,33 @@ package br.com.setecolinas.kanban_project.security;
 import br.com.setecolinas.kanban_project.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret:mySuperSecretKeyThatIsAtLeast32CharactersLongForHS256}")
-    private String jwtSecret;
+    private final long jwtExpirationMs;
 
-    @Value("${jwt.expiration:86400000}") // 24 horas em ms
-    private long jwtExpirationMs;
+    // Chave e parser são imutáveis e thread-safe: criados uma vez na inicialização
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtTokenProvider(@Value("${jwt.secret:mySuperSecretKeyThatIsAtLeast32CharactersLongForHS256}") String jwtSecret,
+                            @Value("${jwt.expiration:86400000}") long jwtExpirationMs) { // 24 horas em ms
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
 
     public String generateToken(User user) {
         Instant now = Instant.now();
@@ -34,84 +43,76 @@ public class JwtTokenProvider {
                 .claim("role", user.getRole().name())
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(expiryDate))
-                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes()), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verifica a assinatura uma única vez e extrai todas as claims usadas pela aplicação.
+     * Retorna vazio quando o token é inválido ou expirado.
+     */
+    public Optional<JwtClaims> parseClaims(String authToken) {
+        try {
+            return Optional.of(toJwtClaims(parse(authToken)));
+        } catch (io.jsonwebtoken.security.SecurityException e) {
+            log.error("JWT signature validation failed: {}", e.getMessage());
+        } catch (MalformedJwtException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+        } catch (ExpiredJwtException e) {
+            log.error("Expired JWT token: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.error("Unsupported JWT token: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.error("JWT claims string is empty: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
     public String getUsernameFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes()))
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parse(token).getSubject();
     }
 
     public Long getUserIdFromToken(String token) {
-        return (Long) Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes()))
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("userId");
+        return asLong(parse(token).get("userId"));
     }
 
     public String getTenantIdFromToken(String token) {
-        return (String) Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes()))
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("tenantId");
+        return parse(token).get("tenantId", String.class);
     }
 
     public Long getOrganizationIdFromToken(String token) {
-        return ((Number) Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes()))
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("organizationId")).longValue();
+        return asLong(parse(token).get("organizationId"));
     }
 
     public String getRoleFromToken(String token) {
-        return (String) Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes()))
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("role");
+        return parse(token).get("role", String.class);
     }
 
     public boolean validateToken(String authToken) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes()))
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
-        } catch (SecurityException e) {
-            log.error("JWT signature validation failed: {}", e.getMessage());
-        } catch (MalformedJwtException e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
-            log.error("Expired JWT token: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.error("Unsupported JWT token: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.error("JWT claims string is empty: {}", e.getMessage());
-        }
-        return false;
+        return parseClaims(authToken).isPresent();
     }
 
     public Instant getExpirationDate(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes()))
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration()
-                .toInstant();
+        return parse(token).getExpiration().toInstant();
+    }
+
+    private Claims parse(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
-}
 
+    private static JwtClaims toJwtClaims(Claims claims) {
+        return new JwtClaims(
+                claims.getSubject(),
+                asLong(claims.get("userId")),
+                claims.get("tenantId", String.class),
+                asLong(claims.get("organizationId")),
+                claims.get("role", String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
+    private static Long asLong(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.setecolinas.kanban_project.security;
+
+import br.com.setecolinas.kanban_project.model.User;
+import br.com.setecolinas.kanban_project.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Cache limitado (tamanho + TTL) dos principals autenticados, indexado por (email, tenantId).
+ * Evita um SELECT em {@code users} a cada requisição autenticada.
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Key, ClaimsPrincipal> cache;
+
+    @Autowired
+    public PrincipalCache(UserRepository userRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${app.security.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this(userRepository, meterRegistry, maxSize, ttlSeconds, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    PrincipalCache(UserRepository userRepository, MeterRegistry meterRegistry, long maxSize, long ttlSeconds,
+                   Ticker ticker, Executor maintenance) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .ticker(ticker)
+                .executor(maintenance)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    /**
+     * Retorna o principal do cache ou carrega do banco. Usuários inexistentes ou inativos
+     * não são mantidos em cache.
+     */
+    public Optional<ClaimsPrincipal> resolve(String email, String tenantId) {
+        return Optional.ofNullable(cache.get(new Key(email, tenantId), this::load));
+    }
+
+    /**
+     * Remove o principal do cache. Dentro de uma transação a remoção é repetida após o commit,
+     * para que uma requisição concorrente não recoloque no cache o estado ainda não commitado.
+     */
+    public void evict(String email, String tenantId) {
+        Key key = new Key(email, tenantId);
+        cache.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(key);
+                }
+            });
+        }
+        log.debug("Principal removido do cache: {} (tenant: {})", email, tenantId);
+    }
+
+    public void evict(User user) {
+        evict(user.getEmail(), user.getTenantId());
+    }
+
+    private ClaimsPrincipal load(Key key) {
+        return userRepository.findByEmailAndTenantId(key.email(), key.tenantId())
+                .filter(User::isEnabled)
+                .map(ClaimsPrincipal::of)
+                .orElse(null);
+    }
+
+    private record Key(String email, String tenantId) {
+    }
+}
@@ -1,6 +1,5 @@
 package br.com.setecolinas.kanban_project.security;
 
-import br.com.setecolinas.kanban_project.model.User;
 import lombok.NoArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -9,43 +8,31 @@ import org.springframework.security.core.context.SecurityContextHolder;
 public class TenantContext {
 
     public static String getCurrentTenantId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        if (authentication != null && authentication.getPrincipal() instanceof User user) {
-            return user.getTenantId();
+        if (getPrincipal() instanceof ClaimsPrincipal principal) {
+            return principal.tenantId();
         }
 
         throw new IllegalStateException("Nenhum tenant encontrado no contexto de segurança");
     }
 
     public static Long getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        if (authentication != null && authentication.getPrincipal() instanceof User user) {
-            return user.getId();
+        if (getPrincipal() instanceof ClaimsPrincipal principal) {
+            return principal.userId();
         }
 
         throw new IllegalStateException("Nenhum usuário encontrado no contexto de segurança");
     }
 
     public static Long getCurrentOrganizationId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        if (authentication != null && authentication.getPrincipal() instanceof User user) {
-            return user.getOrganization().getId();
+        if (getPrincipal() instanceof ClaimsPrincipal principal) {
+            return principal.organizationId();
         }
 
         throw new IllegalStateException("Nenhuma organização encontrada no contexto de segurança");
     }
 
-    public static User getCurrentUser() {
+    private static Object getPrincipal() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        if (authentication != null && authentication.getPrincipal() instanceof User) {
-            return (User) authentication.getPrincipal();
-        }
-
-        throw new IllegalStateException("Nenhum usuário encontrado no contexto de segurança");
+        return authentication != null ? authentication.getPrincipal() : null;
     }
 }
-
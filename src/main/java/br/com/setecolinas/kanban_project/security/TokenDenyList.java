@@ -0,0 +1,53 @@
+package br.com.setecolinas.kanban_project.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Lista de revogação em memória usada no modo stateless: tokens de um usuário emitidos antes
+ * da revogação são recusados. As entradas expiram junto com o maior tempo de vida de um token.
+ */
+@Component
+@Slf4j
+public class TokenDenyList {
+
+    private final Cache<Long, Instant> revokedUsers;
+    private final Clock clock;
+
+    @Autowired
+    public TokenDenyList(@Value("${jwt.expiration:86400000}") long jwtExpirationMs,
+                         @Value("${app.security.deny-list.max-size:100000}") long maxSize) {
+        this(jwtExpirationMs, maxSize, Clock.systemUTC());
+    }
+
+    TokenDenyList(long jwtExpirationMs, long maxSize, Clock clock) {
+        this.clock = clock;
+        this.revokedUsers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(jwtExpirationMs))
+                .build();
+    }
+
+    public void revoke(Long userId) {
+        if (userId == null) return;
+        revokedUsers.put(userId, clock.instant());
+        log.info("Tokens revogados para userId: {}", userId);
+    }
+
+    public boolean isRevoked(JwtClaims claims) {
+        if (claims.userId() == null) return false;
+        Instant revokedAt = revokedUsers.getIfPresent(claims.userId());
+        if (revokedAt == null) return false;
+        // "iat" tem precisão de segundos: tokens emitidos no mesmo segundo da revogação continuam válidos
+        return claims.issuedAt() == null || claims.issuedAt().isBefore(revokedAt.truncatedTo(ChronoUnit.SECONDS));
+    }
+}
@@ -1,5 +1,9 @@
 package br.com.setecolinas.kanban_project.service;
 
+import br.com.setecolinas.kanban_project.audit.AuditEvent;
+import br.com.setecolinas.kanban_project.audit.AuditLogExporter;
+import br.com.setecolinas.kanban_project.audit.AuditLogWriter;
+import br.com.setecolinas.kanban_project.audit.ExportFormat;
 import br.com.setecolinas.kanban_project.model.AuditLog;
 import br.com.setecolinas.kanban_project.model.User;
 import br.com.setecolinas.kanban_project.repository.AuditLogRepository;
@@ -8,10 +12,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
 
 @Service
@@ -21,30 +30,45 @@ import java.time.Instant;
 public class AuditLogService {
 
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final AuditLogExporter auditLogExporter;
 
+    /**
+     * Registra o evento de forma assíncrona: o IP é capturado aqui, na thread da requisição, e a
+     * gravação fica com o {@link AuditLogWriter}, fora da transação e da latência do chamador.
+     * Dentro de uma transação o evento só é enfileirado após o commit; se ela for desfeita,
+     * o evento é descartado junto com a operação auditada.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void log(String tenantId, User user, String action, String entityType, Long entityId, String description) {
         try {
-            String ipAddress = getClientIpAddress();
-
-            AuditLog auditLog = AuditLog.builder()
-                    .tenantId(tenantId)
-                    .user(user)
-                    .action(action)
-                    .entityType(entityType)
-                    .entityId(entityId)
-                    .description(description)
-                    .ipAddress(ipAddress)
-                    .timestamp(Instant.now())
-                    .build();
-
-            auditLogRepository.save(auditLog);
-            log.debug("Auditoria registrada: {} - {} - {}", tenantId, action, entityType);
+            AuditEvent event = new AuditEvent(
+                    tenantId,
+                    user != null ? user.getId() : null,
+                    action,
+                    entityType,
+                    entityId,
+                    description,
+                    getClientIpAddress(),
+                    Instant.now());
+
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        enqueue(event);
+                    }
+                });
+            } else {
+                enqueue(event);
+            }
         } catch (Exception e) {
             log.error("Erro ao registrar auditoria", e);
             // Não falhar a operação por causa de auditoria
         }
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void log(String tenantId, String action, String entityType, Long entityId, String description) {
         log(tenantId, null, action, entityType, entityId, description);
     }
@@ -69,6 +93,35 @@ public class AuditLogService {
         return auditLogRepository.findByTenantIdAndTimestampBetween(tenantId, start, end, pageable);
     }
 
+    /**
+     * Logs de {@code start} (inclusive) até {@code end} (exclusivo). Preferível ao between para
+     * consultas mensais, que assim leem só a partição do mês.
+     */
+    @Transactional(readOnly = true)
+    public Page<AuditLog> findByTenantIdAndTimestampRange(String tenantId, Instant start, Instant end, Pageable pageable) {
+        return auditLogRepository.findByTenantIdAndTimestampGreaterThanEqualAndTimestampLessThan(
+                tenantId, start, end, pageable);
+    }
+
+    /**
+     * Exporta os logs do tenant em streaming. A transação somente-leitura mantém o cursor JDBC aberto
+     * enquanto as linhas são escritas em {@code out}.
+     */
+    @Transactional(readOnly = true)
+    public long export(String tenantId, Instant from, Instant to, String action,
+                       ExportFormat format, OutputStream out) throws IOException {
+        return auditLogExporter.export(tenantId, from, to, action, format, out);
+    }
+
+    private void enqueue(AuditEvent event) {
+        try {
+            auditLogWriter.enqueue(event);
+            log.debug("Auditoria enfileirada: {} - {} - {}", event.tenantId(), event.action(), event.entityType());
+        } catch (Exception e) {
+            log.error("Erro ao registrar auditoria", e);
+        }
+    }
+
     private String getClientIpAddress() {
         try {
             ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
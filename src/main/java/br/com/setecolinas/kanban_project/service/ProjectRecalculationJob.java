@@ -0,0 +1,228 @@
+package br.com.setecolinas.kanban_project.service;
+
+import br.com.setecolinas.kanban_project.board.ProjectChangedEvent;
+import br.com.setecolinas.kanban_project.cache.ProjectCache;
+import br.com.setecolinas.kanban_project.dto.ProjectResponseDTO;
+import br.com.setecolinas.kanban_project.model.Project;
+import br.com.setecolinas.kanban_project.model.enums.ProjectStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Recalcula na virada do dia {@code daysDelay}, {@code percentTimeRemaining} e {@code status}, que
+ * dependem da data atual e ficariam desatualizados até a próxima edição do projeto.
+ * <p>
+ * Seleciona por predicados de data apenas os projetos cujos campos podem mudar: atraso crescendo,
+ * prazo ainda em curso ou status prestes a virar. O cálculo é o mesmo do {@link ProjectService#recalc}
+ * e só as linhas que de fato mudaram são gravadas, em lotes JDBC com commit por bloco. Os tenants são
+ * processados em paralelo. O UPDATE confere as datas lidas, então uma edição concorrente do usuário não é
+ * sobrescrita com valores calculados sobre datas antigas.
+ * <p>
+ * Depois do commit de cada bloco publica {@code UPDATED} para os projetos gravados, como o
+ * {@link ProjectService} faria: o quadro em memória, o SSE e as subscriptions GraphQL recebem a mudança.
+ */
+@Component
+public class ProjectRecalculationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectRecalculationJob.class);
+
+    // Superconjunto das linhas cujos campos derivados mudam com o passar dos dias
+    private static final String CANDIDATES = """
+             (actual_end is null and planned_end < ?)
+             or (coalesce(status, '') <> 'A_INICIAR' and planned_start is not null and planned_end > planned_start
+                 and (planned_end >= ? or percent_time_remaining <> 0))
+             or (actual_end is null and coalesce(status, '') <> 'ATRASADO'
+                 and ((planned_start < ? and actual_start is null) or planned_end < ?))
+             or (status = 'EM_ANDAMENTO' and planned_end <= ?)
+            """;
+
+    private static final String SELECT_TENANTS = "select distinct tenant_id from project where " + CANDIDATES;
+
+    private static final String SELECT_CHUNK = "select id, status, planned_start, planned_end, actual_start, actual_end, "
+            + "days_delay, percent_time_remaining from project where tenant_id = ? and id > ? and ("
+            + CANDIDATES + ") order by id limit ?";
+
+    private static final String UPDATE = "update project set status = ?, days_delay = ?, percent_time_remaining = ? "
+            + "where id = ? and tenant_id = ? and status is not distinct from ? "
+            + "and planned_start is not distinct from ? and planned_end is not distinct from ? "
+            + "and actual_start is not distinct from ? and actual_end is not distinct from ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectCache projectCache;
+    private final ProjectService projectService;
+    private final ApplicationEventPublisher events;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int parallelism;
+
+    private final Counter scanned;
+    private final Counter updated;
+    private final Timer duration;
+    private final AtomicInteger tenantsRemaining = new AtomicInteger();
+
+    public ProjectRecalculationJob(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   ProjectCache projectCache,
+                                   ProjectService projectService,
+                                   ApplicationEventPublisher events,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.projects.recalc.enabled:true}") boolean enabled,
+                                   @Value("${app.projects.recalc.chunk-size:500}") int chunkSize,
+                                   @Value("${app.projects.recalc.parallelism:4}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.projectCache = projectCache;
+        this.projectService = projectService;
+        this.events = events;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.scanned = Counter.builder("projects.recalc.scanned").register(meterRegistry);
+        this.updated = Counter.builder("projects.recalc.updated").register(meterRegistry);
+        this.duration = Timer.builder("projects.recalc.duration").register(meterRegistry);
+        Gauge.builder("projects.recalc.tenants.remaining", tenantsRemaining, AtomicInteger::get).register(meterRegistry);
+    }
+
+    // Cobre dias perdidos com a aplicação parada
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        run();
+    }
+
+    @Scheduled(cron = "${app.projects.recalc.cron:0 5 0 * * *}")
+    public void run() {
+        if (!enabled) return;
+        try {
+            recalculate(LocalDate.now());
+        } catch (Exception e) {
+            log.error("action=recalc.failed error={}", e.getMessage(), e);
+        }
+    }
+
+    /** Recalcula todos os tenants para {@code today} e retorna quantos projetos foram atualizados. */
+    public long recalculate(LocalDate today) throws Exception {
+        return duration.recordCallable(() -> {
+            List<String> tenants = jdbcTemplate.queryForList(SELECT_TENANTS, String.class, dateArgs(today));
+            tenantsRemaining.set(tenants.size());
+            log.info("action=recalc.started date={} tenants={}", today, tenants.size());
+
+            long total = 0;
+            try (ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism))) {
+                List<Future<Long>> results = new ArrayList<>(tenants.size());
+                for (String tenantId : tenants) {
+                    results.add(executor.submit(() -> {
+                        try {
+                            return recalculateTenant(tenantId, today);
+                        } finally {
+                            tenantsRemaining.decrementAndGet();
+                        }
+                    }));
+                }
+                for (Future<Long> result : results) {
+                    total += result.get();
+                }
+            }
+            log.info("action=recalc.finished date={} tenants={} updated={}", today, tenants.size(), total);
+            return total;
+        });
+    }
+
+    long recalculateTenant(String tenantId, LocalDate today) {
+        long lastId = 0;
+        long tenantScanned = 0;
+        long tenantUpdated = 0;
+        while (true) {
+            List<Object> args = new ArrayList<>(List.of(tenantId, lastId));
+            args.addAll(List.of(dateArgs(today)));
+            args.add(chunkSize);
+            List<Project> chunk = jdbcTemplate.query(SELECT_CHUNK, (rs, i) -> {
+                Project p = new Project();
+                p.setId(rs.getLong("id"));
+                String status = rs.getString("status");
+                p.setStatus(status != null ? ProjectStatus.valueOf(status) : null);
+                p.setPlannedStart(rs.getObject("planned_start", LocalDate.class));
+                p.setPlannedEnd(rs.getObject("planned_end", LocalDate.class));
+                p.setActualStart(rs.getObject("actual_start", LocalDate.class));
+                p.setActualEnd(rs.getObject("actual_end", LocalDate.class));
+                p.setDaysDelay(rs.getObject("days_delay", Integer.class));
+                p.setPercentTimeRemaining(rs.getObject("percent_time_remaining", Double.class));
+                return p;
+            }, args.toArray());
+            if (chunk.isEmpty()) break;
+
+            List<Object[]> batch = new ArrayList<>();
+            List<Long> changedIds = new ArrayList<>();
+            for (Project p : chunk) {
+                ProjectStatus oldStatus = p.getStatus();
+                Integer oldDelay = p.getDaysDelay();
+                Double oldPercent = p.getPercentTimeRemaining();
+                ProjectService.recalc(p, today);
+                if (p.getStatus() != oldStatus || !Objects.equals(p.getDaysDelay(), oldDelay)
+                        || !Objects.equals(p.getPercentTimeRemaining(), oldPercent)) {
+                    batch.add(new Object[]{p.getStatus().name(), p.getDaysDelay(), p.getPercentTimeRemaining(),
+                            p.getId(), tenantId, oldStatus != null ? oldStatus.name() : null,
+                            p.getPlannedStart(), p.getPlannedEnd(), p.getActualStart(), p.getActualEnd()});
+                    changedIds.add(p.getId());
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                int[] counts = transactionTemplate.execute(status -> {
+                    int[] result = jdbcTemplate.batchUpdate(UPDATE, batch);
+                    projectCache.evict(tenantId, changedIds);
+                    return result;
+                });
+                // 0 = projeto editado no meio do caminho (guarda de datas); SUCCESS_NO_INFO conta como gravado
+                Objects.requireNonNull(counts);
+                List<Long> updatedIds = new ArrayList<>(counts.length);
+                for (int i = 0; i < counts.length; i++) {
+                    if (counts[i] != 0) updatedIds.add(changedIds.get(i));
+                }
+                tenantUpdated += updatedIds.size();
+                publishUpdated(tenantId, updatedIds);
+            }
+            tenantScanned += chunk.size();
+            scanned.increment(chunk.size());
+            lastId = chunk.get(chunk.size() - 1).getId();
+            if (chunk.size() < chunkSize) break;
+        }
+        updated.increment(tenantUpdated);
+        log.info("action=recalc.tenant tenantId={} scanned={} updated={}", tenantId, tenantScanned, tenantUpdated);
+        return tenantUpdated;
+    }
+
+    // Fora da transação do bloco: os listeners (fallbackExecution) recebem o estado já commitado
+    private void publishUpdated(String tenantId, List<Long> ids) {
+        if (ids.isEmpty()) return;
+        for (ProjectResponseDTO card : projectService.findCards(tenantId, ids)) {
+            events.publishEvent(new ProjectChangedEvent(tenantId, card.id(), ProjectChangedEvent.Type.UPDATED, card));
+        }
+    }
+
+    private static Object[] dateArgs(LocalDate today) {
+        return new Object[]{today, today, today, today, today};
+    }
+}
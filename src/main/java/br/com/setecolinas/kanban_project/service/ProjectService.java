@@ -1,40 +1,81 @@
 package br.com.setecolinas.kanban_project.service;
 
+import br.com.setecolinas.kanban_project.board.ProjectChangedEvent;
+import br.com.setecolinas.kanban_project.cache.ProjectCache;
+import br.com.setecolinas.kanban_project.cache.TenantRowCounter;
+import br.com.setecolinas.kanban_project.dto.BulkItemResultDTO;
+import br.com.setecolinas.kanban_project.dto.BulkResultDTO;
+import br.com.setecolinas.kanban_project.dto.CountMode;
+import br.com.setecolinas.kanban_project.dto.Cursor;
+import br.com.setecolinas.kanban_project.dto.CursorPage;
+import br.com.setecolinas.kanban_project.dto.ProjectFilter;
 import br.com.setecolinas.kanban_project.dto.ProjectRequestDTO;
 import br.com.setecolinas.kanban_project.dto.ProjectResponseDTO;
 import br.com.setecolinas.kanban_project.exceptions.BusinessException;
 import br.com.setecolinas.kanban_project.exceptions.NotFoundException;
 import br.com.setecolinas.kanban_project.mapper.ProjectMapper;
+import br.com.setecolinas.kanban_project.model.Organization;
 import br.com.setecolinas.kanban_project.model.Project;
+import br.com.setecolinas.kanban_project.model.Responsible;
 import br.com.setecolinas.kanban_project.model.enums.ProjectStatus;
+import br.com.setecolinas.kanban_project.repository.OrganizationRepository;
 import br.com.setecolinas.kanban_project.repository.ProjectRepository;
+import br.com.setecolinas.kanban_project.repository.ProjectSpecifications;
 import br.com.setecolinas.kanban_project.repository.ResponsibleRepository;
 import br.com.setecolinas.kanban_project.security.TenantContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 public class ProjectService {
 
+    public static final String ROW_COUNT = "project";
+    public static final int BULK_MAX_ITEMS = 500;
+
     private static final Logger log = LoggerFactory.getLogger(ProjectService.class);
 
     private final ProjectRepository repo;
     private final ResponsibleRepository respRepo;
+    private final OrganizationRepository orgRepo;
+    private final ProjectCache projectCache;
+    private final TenantRowCounter rowCounter;
+    private final ApplicationEventPublisher events;
 
-    public ProjectService(ProjectRepository repo, ResponsibleRepository respRepo) {
+    public ProjectService(ProjectRepository repo, ResponsibleRepository respRepo, OrganizationRepository orgRepo,
+                          ProjectCache projectCache, TenantRowCounter rowCounter, ApplicationEventPublisher events) {
         this.repo = repo;
         this.respRepo = respRepo;
+        this.orgRepo = orgRepo;
+        this.projectCache = projectCache;
+        this.rowCounter = rowCounter;
+        this.events = events;
     }
 
     // ====== Utilitário para MDC + userId ======
@@ -70,8 +111,8 @@ public class ProjectService {
         return withUserContext(() -> {
             log.info("action=findById.started id={}", id);
             String tenantId = TenantContext.getCurrentTenantId();
-            ProjectResponseDTO dto = repo.findByIdAndTenantId(id, tenantId)
-                    .map(ProjectMapper::toResponse)
+            ProjectResponseDTO dto = projectCache.get(tenantId, id,
+                            () -> repo.findByIdAndTenantId(id, tenantId).map(ProjectMapper::toResponse))
                     .orElseThrow(() -> new NotFoundException("Project not found"));
             log.info("action=findById.finished id={}", id);
             return dto;
@@ -79,18 +120,15 @@ public class ProjectService {
     }
 
     @Transactional
-    @CacheEvict(value = "projects", allEntries = true)
     public ProjectResponseDTO create(ProjectRequestDTO dto) {
         return withUserContext(() -> {
             log.info("action=create.started name={}", dto.name());
 
             String tenantId = TenantContext.getCurrentTenantId();
-            var auth = org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
-            var user = (br.com.setecolinas.kanban_project.model.User) auth.getPrincipal();
 
             Project p = new Project(dto.name());
             p.setTenantId(tenantId);
-            p.setOrganization(user.getOrganization());
+            p.setOrganization(orgRepo.getReferenceById(TenantContext.getCurrentOrganizationId()));
             ProjectMapper.apply(p, dto);
 
             if (dto.responsibleIds() != null) {
@@ -100,29 +138,223 @@ public class ProjectService {
 
             recalc(p);
             Project saved = repo.save(p);
+            projectCache.evictPages(tenantId);
+            rowCounter.increment(ROW_COUNT, tenantId);
+            ProjectResponseDTO out = ProjectMapper.toResponse(saved);
+            events.publishEvent(new ProjectChangedEvent(tenantId, saved.getId(), ProjectChangedEvent.Type.CREATED, out));
 
             log.info("action=create.finished id={}", saved.getId());
-            return ProjectMapper.toResponse(saved);
+            return out;
+        });
+    }
+
+    /**
+     * Cria vários projetos numa transação: os responsáveis de todos os itens vêm num único IN e os inserts
+     * saem em lote (ids do pool da sequence). Itens inválidos voltam com o erro sem impedir os demais.
+     */
+    @Transactional
+    public BulkResultDTO createAll(List<ProjectRequestDTO> dtos) {
+        return withUserContext(() -> {
+            checkBulkSize(dtos);
+            log.info("action=createAll.started count={}", dtos.size());
+
+            String tenantId = TenantContext.getCurrentTenantId();
+            Organization organization = orgRepo.getReferenceById(TenantContext.getCurrentOrganizationId());
+            Set<Long> responsibleIds = dtos.stream()
+                    .filter(Objects::nonNull)
+                    .map(ProjectRequestDTO::responsibleIds)
+                    .filter(Objects::nonNull)
+                    .flatMap(Set::stream)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Map<Long, Responsible> responsibles = responsibleIds.isEmpty() ? Map.of()
+                    : respRepo.findByTenantIdAndIdIn(tenantId, responsibleIds).stream()
+                    .collect(Collectors.toMap(Responsible::getId, Function.identity()));
+
+            BulkItemResultDTO[] results = new BulkItemResultDTO[dtos.size()];
+            List<Project> projects = new ArrayList<>();
+            List<Integer> positions = new ArrayList<>();
+            for (int i = 0; i < dtos.size(); i++) {
+                ProjectRequestDTO dto = dtos.get(i);
+                String error = bulkCreateError(dto, responsibles);
+                if (error != null) {
+                    results[i] = BulkItemResultDTO.failed(i, null, error);
+                    continue;
+                }
+                Project p = new Project(dto.name());
+                p.setTenantId(tenantId);
+                p.setOrganization(organization);
+                ProjectMapper.apply(p, dto);
+                if (dto.responsibleIds() != null) {
+                    dto.responsibleIds().forEach(id -> p.getResponsibles().add(responsibles.get(id)));
+                }
+                recalc(p);
+                projects.add(p);
+                positions.add(i);
+            }
+
+            List<Project> saved = repo.saveAll(projects);
+            for (int k = 0; k < saved.size(); k++) {
+                Project p = saved.get(k);
+                ProjectResponseDTO out = ProjectMapper.toResponse(p);
+                results[positions.get(k)] = BulkItemResultDTO.ok(positions.get(k), out);
+                events.publishEvent(new ProjectChangedEvent(tenantId, p.getId(), ProjectChangedEvent.Type.CREATED, out));
+            }
+            if (!saved.isEmpty()) {
+                projectCache.evictPages(tenantId);
+                rowCounter.increment(ROW_COUNT, tenantId, saved.size());
+            }
+
+            BulkResultDTO out = BulkResultDTO.of(Arrays.asList(results));
+            log.info("action=createAll.finished succeeded={} failed={}", out.succeeded(), out.failed());
+            return out;
         });
     }
 
-    @Cacheable("projects")
+    private static void checkBulkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BusinessException("At least one item is required");
+        }
+        if (items.size() > BULK_MAX_ITEMS) {
+            throw new BusinessException("At most " + BULK_MAX_ITEMS + " items per request");
+        }
+    }
+
+    // Mesmas regras do create, mas responsável inexistente vira erro do item em vez de ser ignorado
+    private static String bulkCreateError(ProjectRequestDTO dto, Map<Long, Responsible> responsibles) {
+        if (dto == null) return "Item is required";
+        if (dto.name() == null || dto.name().isBlank()) return "Name is required";
+        if (dto.responsibleIds() != null) {
+            if (dto.responsibleIds().stream().anyMatch(Objects::isNull)) return "Responsible id is required";
+            List<Long> missing = dto.responsibleIds().stream().filter(id -> !responsibles.containsKey(id)).sorted().toList();
+            if (!missing.isEmpty()) return "Responsible not found: " + missing;
+        }
+        return null;
+    }
+
     @Transactional(readOnly = true)
     public Page<ProjectResponseDTO> findAll(Pageable pageable) {
         return withUserContext(() -> {
             String tenantId = TenantContext.getCurrentTenantId();
             log.info("action=findAll.started tenantId={}", tenantId);
 
-            Page<Project> page = repo.findByTenantId(tenantId, pageable);
-            Page<ProjectResponseDTO> result = page.map(ProjectMapper::toResponse);
+            Page<ProjectResponseDTO> result = projectCache.getPage(tenantId, pageable,
+                    () -> {
+                        Page<Project> page = repo.findByTenantId(tenantId, pageable);
+                        return new PageImpl<>(toResponses(page.getContent(), tenantId), pageable, page.getTotalElements());
+                    },
+                    ids -> toResponses(repo.findByIdInAndTenantId(ids, tenantId), tenantId));
 
             log.info("action=findAll.finished count={}", result.getTotalElements());
             return result;
         });
     }
 
+    /**
+     * Listagem filtrada (status, janelas de data, atraso mínimo, responsável, secretaria) ou ordenada. Não passa
+     * pelo cache de páginas: as combinações de filtro e sort são muitas e pouco repetidas. Sem filtro e sem sort
+     * cai na listagem com cache; REST e GraphQL entram sempre por aqui.
+     */
+    @Transactional(readOnly = true)
+    public Page<ProjectResponseDTO> findAll(ProjectFilter filter, Pageable pageable) {
+        if (isPlain(filter, pageable)) return findAll(pageable);
+
+        return withUserContext(() -> {
+            String tenantId = TenantContext.getCurrentTenantId();
+            log.info("action=findAllFiltered.started tenantId={} filter={}", tenantId, filter);
+            validate(filter, pageable);
+
+            Page<Project> page = repo.findAll(ProjectSpecifications.matching(tenantId, filter, LocalDate.now()), pageable);
+            Page<ProjectResponseDTO> out = new PageImpl<>(toResponses(page.getContent(), tenantId), pageable, page.getTotalElements());
+
+            log.info("action=findAllFiltered.finished count={}", out.getTotalElements());
+            return out;
+        });
+    }
+
+    private static boolean isPlain(ProjectFilter filter, Pageable pageable) {
+        return (filter == null || filter.isEmpty()) && pageable.getSort().isUnsorted();
+    }
+
+    private static void validate(ProjectFilter filter, Pageable pageable) {
+        if (filter != null && filter.minDelay() != null && filter.minDelay() < 1) {
+            throw new BusinessException("minDelay must be at least 1");
+        }
+        pageable.getSort().forEach(order -> {
+            if (!ProjectFilter.SORTABLE.contains(order.getProperty())) {
+                throw new BusinessException("Invalid sort property: " + order.getProperty());
+            }
+        });
+    }
+
+    /** Listagem sem cache de páginas para os modos que dispensam o COUNT exato. */
+    @Transactional(readOnly = true)
+    public Slice<ProjectResponseDTO> findAll(Pageable pageable, CountMode count) {
+        if (count == CountMode.EXACT) return findAll(pageable);
+
+        return withUserContext(() -> {
+            String tenantId = TenantContext.getCurrentTenantId();
+            log.info("action=findAll.started tenantId={} count={}", tenantId, count);
+
+            Slice<Project> slice = repo.findSliceByTenantId(tenantId, pageable);
+            Slice<ProjectResponseDTO> out = new SliceImpl<>(toResponses(slice.getContent(), tenantId), pageable, slice.hasNext());
+            if (count == CountMode.APPROXIMATE) {
+                out = TenantRowCounter.toPage(out, rowCounter.get(ROW_COUNT, tenantId, () -> repo.countByTenantId(tenantId)));
+            }
+
+            log.info("action=findAll.finished count={} hasNext={}", out.getNumberOfElements(), out.hasNext());
+            return out;
+        });
+    }
+
+    /**
+     * Modo de contagem combinado com filtros/sort. {@link CountMode#NONE} busca uma linha a mais para saber se
+     * há próxima página, sem COUNT. O total aproximado é por tenant, então {@link CountMode#APPROXIMATE} não
+     * aceita filtros (só sort).
+     */
+    @Transactional(readOnly = true)
+    public Slice<ProjectResponseDTO> findAll(ProjectFilter filter, Pageable pageable, CountMode count) {
+        if (isPlain(filter, pageable)) return findAll(pageable, count);
+        if (count == CountMode.EXACT) return findAll(filter, pageable);
+        boolean filtered = filter != null && !filter.isEmpty();
+        if (count == CountMode.APPROXIMATE && filtered) {
+            throw new BusinessException("count=APPROXIMATE cannot be combined with filters; use count=EXACT or NONE");
+        }
+        validate(filter, pageable);
+        if (!filtered) return findAll(pageable, count);
+
+        return withUserContext(() -> {
+            String tenantId = TenantContext.getCurrentTenantId();
+            log.info("action=findAllFiltered.started tenantId={} filter={} count={}", tenantId, filter, count);
+
+            Slice<Project> slice = repo.findBy(ProjectSpecifications.matching(tenantId, filter, LocalDate.now()),
+                    q -> q.slice(pageable));
+            Slice<ProjectResponseDTO> out = new SliceImpl<>(toResponses(slice.getContent(), tenantId), pageable, slice.hasNext());
+
+            log.info("action=findAllFiltered.finished count={} hasNext={}", out.getNumberOfElements(), out.hasNext());
+            return out;
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectResponseDTO> findAfter(String after, Integer size) {
+        return withUserContext(() -> {
+            String tenantId = TenantContext.getCurrentTenantId();
+            log.info("action=findAfter.started tenantId={} size={}", tenantId, size);
+
+            Cursor cursor = after == null ? null : Cursor.decode(after);
+            List<Project> rows = cursor == null
+                    ? repo.findKeysetFirst(tenantId, CursorPage.probe(size))
+                    : repo.findKeysetAfter(tenantId, cursor.sortKey(), cursor.id(), CursorPage.probe(size));
+
+            CursorPage<ProjectResponseDTO> out = CursorPage.of(toResponses(rows, tenantId), size,
+                    p -> new Cursor(p.name(), p.id()));
+            log.info("action=findAfter.finished count={} hasNext={}", out.content().size(), out.hasNext());
+            return out;
+        });
+    }
+
     @Transactional
-    @CacheEvict(value = "projects", allEntries = true)
     public ProjectResponseDTO update(Long id, ProjectRequestDTO dto) {
         return withUserContext(() -> {
             log.info("action=update.started id={}", id);
@@ -140,14 +372,16 @@ public class ProjectService {
 
             recalc(p);
             Project saved = repo.save(p);
+            projectCache.evict(tenantId, id);
+            ProjectResponseDTO out = ProjectMapper.toResponse(saved);
+            events.publishEvent(new ProjectChangedEvent(tenantId, id, ProjectChangedEvent.Type.UPDATED, out));
 
             log.info("action=update.finished id={}", id);
-            return ProjectMapper.toResponse(saved);
+            return out;
         });
     }
 
     @Transactional
-    @CacheEvict(value = "projects", allEntries = true)
     public void delete(Long id) {
         withUserContext(() -> {
             log.info("action=delete.started id={}", id);
@@ -155,19 +389,102 @@ public class ProjectService {
             Project p = repo.findByIdAndTenantId(id, tenantId)
                     .orElseThrow(() -> new NotFoundException("Project not found"));
             repo.delete(p);
+            projectCache.evict(tenantId, id);
+            rowCounter.decrement(ROW_COUNT, tenantId);
+            events.publishEvent(new ProjectChangedEvent(tenantId, id, ProjectChangedEvent.Type.DELETED, null));
             log.info("action=delete.finished id={}", id);
         });
     }
 
+    /**
+     * Listagem com status, atraso e % restante calculados no SELECT para a data de hoje, sem depender
+     * dos valores gravados. Com {@code minDelay} (>= 1) lista só os atrasados por pelo menos N dias; nesse
+     * caso ordenar por {@code daysDelay} vira ordenar por {@code plannedEnd} no sentido inverso, o que
+     * segue o índice (tenant_id, planned_end).
+     */
+    @Transactional(readOnly = true)
+    public Page<ProjectResponseDTO> findAllLive(Pageable pageable, Integer minDelay) {
+        return withUserContext(() -> {
+            String tenantId = TenantContext.getCurrentTenantId();
+            log.info("action=findAllLive.started tenantId={} minDelay={}", tenantId, minDelay);
+            if (minDelay != null && minDelay < 1) {
+                throw new BusinessException("minDelay must be at least 1");
+            }
+
+            LocalDate today = LocalDate.now();
+            Page<ProjectRepository.ProjectLiveView> page = minDelay == null
+                    ? repo.findLiveByTenantId(tenantId, today, pageable)
+                    : repo.findLiveDelayedByTenantId(tenantId, today, today.minusDays(minDelay), delaySortAsPlannedEnd(pageable));
+            Map<Long, Set<Long>> responsibleIds = responsibleIds(page.map(ProjectRepository.ProjectLiveView::getId).getContent(), tenantId);
+            Page<ProjectResponseDTO> out = page.map(v -> ProjectMapper.toResponse(v, responsibleIds.getOrDefault(v.getId(), Set.of())));
+
+            log.info("action=findAllLive.finished count={}", out.getTotalElements());
+            return out;
+        });
+    }
+
+    // Entre atrasados, daysDelay = today - plannedEnd: mesma ordem, sentido invertido
+    private static Pageable delaySortAsPlannedEnd(Pageable pageable) {
+        if (pageable.getSort().getOrderFor("daysDelay") == null) return pageable;
+        Sort sort = Sort.by(pageable.getSort().stream()
+                .map(o -> o.getProperty().equals("daysDelay")
+                        ? new Sort.Order(o.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC, "plannedEnd")
+                        : o)
+                .toList());
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    /** Percorre todos os projetos do tenant em blocos por keyset (carga do quadro kanban). */
+    @Transactional(readOnly = true)
+    public void forEachCard(String tenantId, Consumer<ProjectResponseDTO> consumer) {
+        Pageable chunk = PageRequest.of(0, 500);
+        List<Project> rows = repo.findKeysetFirst(tenantId, chunk);
+        while (!rows.isEmpty()) {
+            toResponses(rows, tenantId).forEach(consumer);
+            if (rows.size() < chunk.getPageSize()) break;
+            Project last = rows.get(rows.size() - 1);
+            rows = repo.findKeysetAfter(tenantId, last.getName(), last.getId(), chunk);
+        }
+    }
+
+    /** Cards dos projetos indicados, para publicar mudanças gravadas fora do service (recálculo diário). */
+    @Transactional(readOnly = true)
+    public List<ProjectResponseDTO> findCards(String tenantId, Collection<Long> ids) {
+        return toResponses(repo.findByIdInAndTenantId(ids, tenantId), tenantId);
+    }
+
+    // Responsáveis de toda a página em uma consulta, em vez de uma por projeto (N+1)
+    private List<ProjectResponseDTO> toResponses(List<Project> projects, String tenantId) {
+        if (projects.isEmpty()) return List.of();
+
+        Map<Long, Set<Long>> responsibleIds = responsibleIds(projects.stream().map(Project::getId).toList(), tenantId);
+        return projects.stream()
+                .map(p -> ProjectMapper.toResponse(p, responsibleIds.getOrDefault(p.getId(), Set.of())))
+                .toList();
+    }
+
+    private Map<Long, Set<Long>> responsibleIds(List<Long> ids, String tenantId) {
+        Map<Long, Set<Long>> responsibleIds = new HashMap<>();
+        if (ids.isEmpty()) return responsibleIds;
+        repo.findResponsibleLinks(ids, tenantId).forEach(link ->
+                responsibleIds.computeIfAbsent(link.getProjectId(), k -> new HashSet<>()).add(link.getResponsibleId()));
+        return responsibleIds;
+    }
+
     // ====== Lógica de negócio ======
     public void recalc(Project p) {
-        LocalDate today = LocalDate.now();
+        recalc(p, LocalDate.now());
+    }
+
+    /** Campos derivados em uma data; usado também pelo {@link ProjectRecalculationJob}. */
+    static void recalc(Project p, LocalDate today) {
+        // Status primeiro: atraso e % restante dependem dele, e o resultado não muda se recalculado
+        p.setStatus(calculateStatus(p, today));
         p.setDaysDelay(calculateDaysDelay(p, today));
         p.setPercentTimeRemaining(calculatePercentRemaining(p, today));
-        p.setStatus(calculateStatus(p, today));
     }
 
-    private int calculateDaysDelay(Project p, LocalDate today) {
+    private static int calculateDaysDelay(Project p, LocalDate today) {
         if (p.getStatus() == ProjectStatus.CONCLUIDO) return 0;
         if (p.getPlannedEnd() == null) return 0;
         if (p.getActualEnd() != null) return 0;
@@ -177,7 +494,7 @@ public class ProjectService {
         return 0;
     }
 
-    private double calculatePercentRemaining(Project p, LocalDate today) {
+    private static double calculatePercentRemaining(Project p, LocalDate today) {
         if (p.getStatus() == ProjectStatus.A_INICIAR) return 0.0;
         if (p.getPlannedStart() == null || p.getPlannedEnd() == null) return 0.0;
 
@@ -191,7 +508,7 @@ public class ProjectService {
         return ((double) remaining / total) * 100.0;
     }
 
-    private ProjectStatus calculateStatus(Project p, LocalDate today) {
+    private static ProjectStatus calculateStatus(Project p, LocalDate today) {
         if (p.getActualEnd() != null) return ProjectStatus.CONCLUIDO;
 
         if (p.getActualStart() == null && p.getPlannedStart() == null && p.getPlannedEnd() == null) {
@@ -211,7 +528,6 @@ public class ProjectService {
     }
 
     @Transactional
-    @CacheEvict(value = "projects", allEntries = true)
     public ProjectResponseDTO transition(Long id, ProjectStatus target) {
         return withUserContext(() -> {
             log.info("action=transition.started id={} target={}", id, target);
@@ -219,33 +535,100 @@ public class ProjectService {
             Project p = repo.findByIdAndTenantId(id, tenantId)
                     .orElseThrow(() -> new NotFoundException("Project not found"));
 
-            LocalDate today = LocalDate.now();
-            ProjectStatus current = recalcAndReturn(p);
+            applyTransition(p, target, LocalDate.now());
+            Project saved = repo.save(p);
+            projectCache.evict(tenantId, id);
+            ProjectResponseDTO out = ProjectMapper.toResponse(saved);
+            events.publishEvent(new ProjectChangedEvent(tenantId, id, ProjectChangedEvent.Type.TRANSITIONED, out));
+
+            log.info("action=transition.finished id={} newStatus={}", id, saved.getStatus());
+            return out;
+        });
+    }
+
+    /**
+     * Transição de vários projetos para o mesmo status: uma consulta para todos, as mesmas regras do
+     * {@link #transition} por item, updates enviados em lote no commit e caches invalidados uma vez.
+     * Ids inexistentes, repetidos ou com transição não permitida voltam com o erro sem impedir os demais.
+     */
+    @Transactional
+    public BulkResultDTO transitionAll(List<Long> ids, ProjectStatus target) {
+        return withUserContext(() -> {
+            checkBulkSize(ids);
+            if (target == null) throw new BusinessException("Target status is required");
+            log.info("action=transitionAll.started count={} target={}", ids.size(), target);
+
+            String tenantId = TenantContext.getCurrentTenantId();
+            Map<Long, Project> projects = repo.findByIdInAndTenantId(
+                            ids.stream().filter(Objects::nonNull).collect(Collectors.toSet()), tenantId).stream()
+                    .collect(Collectors.toMap(Project::getId, Function.identity()));
 
-            if (current == ProjectStatus.A_INICIAR && target == ProjectStatus.EM_ANDAMENTO) {
-                p.setActualStart(today);
-            } else if (current == ProjectStatus.A_INICIAR && target == ProjectStatus.ATRASADO) {
-                if (today.isBefore(p.getPlannedStart())) {
-                    throw new BusinessException("Cannot mark as delayed before planned start");
+            LocalDate today = LocalDate.now();
+            BulkItemResultDTO[] results = new BulkItemResultDTO[ids.size()];
+            Set<Long> seen = new HashSet<>();
+            List<Project> changed = new ArrayList<>();
+            List<Integer> positions = new ArrayList<>();
+            for (int i = 0; i < ids.size(); i++) {
+                Long id = ids.get(i);
+                Project p = id == null ? null : projects.get(id);
+                if (p == null) {
+                    results[i] = BulkItemResultDTO.failed(i, id, id == null ? "Id is required" : "Project not found");
+                    continue;
                 }
-            } else if (target == ProjectStatus.CONCLUIDO) {
-                p.setActualEnd(today);
-            } else if (current == ProjectStatus.EM_ANDAMENTO && target == ProjectStatus.A_INICIAR) {
-                p.setActualStart(null);
-            } else {
-                throw new BusinessException("Transition not allowed or requires manual date adjustments");
+                if (!seen.add(id)) {
+                    results[i] = BulkItemResultDTO.failed(i, id, "Duplicate id");
+                    continue;
+                }
+                try {
+                    applyTransition(p, target, today);
+                } catch (BusinessException e) {
+                    results[i] = BulkItemResultDTO.failed(i, id, e.getMessage());
+                    continue;
+                }
+                changed.add(p);
+                positions.add(i);
             }
 
-            recalc(p);
-            Project saved = repo.save(p);
+            List<Project> saved = repo.saveAll(changed);
+            Map<Long, Set<Long>> responsibleIds = responsibleIds(saved.stream().map(Project::getId).toList(), tenantId);
+            for (int k = 0; k < saved.size(); k++) {
+                Project p = saved.get(k);
+                ProjectResponseDTO out = ProjectMapper.toResponse(p, responsibleIds.getOrDefault(p.getId(), Set.of()));
+                results[positions.get(k)] = BulkItemResultDTO.ok(positions.get(k), out);
+                events.publishEvent(new ProjectChangedEvent(tenantId, p.getId(), ProjectChangedEvent.Type.TRANSITIONED, out));
+            }
+            if (!saved.isEmpty()) {
+                projectCache.evict(tenantId, saved.stream().map(Project::getId).toList());
+            }
 
-            log.info("action=transition.finished id={} newStatus={}", id, saved.getStatus());
-            return ProjectMapper.toResponse(saved);
+            BulkResultDTO out = BulkResultDTO.of(Arrays.asList(results));
+            log.info("action=transitionAll.finished target={} succeeded={} failed={}", target, out.succeeded(), out.failed());
+            return out;
         });
     }
 
-    private ProjectStatus recalcAndReturn(Project p) {
-        recalc(p);
-        return p.getStatus();
+    /**
+     * Regras de transição de status, compartilhadas pela transição unitária e em lote. A regra é conferida
+     * sobre o status calculado sem tocar na entidade: um item recusado no lote não fica sujo e não é gravado
+     * no flush sem o {@link ProjectChangedEvent} correspondente.
+     */
+    static void applyTransition(Project p, ProjectStatus target, LocalDate today) {
+        ProjectStatus current = calculateStatus(p, today);
+
+        if (current == ProjectStatus.A_INICIAR && target == ProjectStatus.EM_ANDAMENTO) {
+            p.setActualStart(today);
+        } else if (current == ProjectStatus.A_INICIAR && target == ProjectStatus.ATRASADO) {
+            if (p.getPlannedStart() == null || today.isBefore(p.getPlannedStart())) {
+                throw new BusinessException("Cannot mark as delayed before planned start");
+            }
+        } else if (target == ProjectStatus.CONCLUIDO) {
+            p.setActualEnd(today);
+        } else if (current == ProjectStatus.EM_ANDAMENTO && target == ProjectStatus.A_INICIAR) {
+            p.setActualStart(null);
+        } else {
+            throw new BusinessException("Transition not allowed or requires manual date adjustments");
+        }
+
+        recalc(p, today);
     }
 }
@@ -0,0 +1,12 @@
+package br.com.setecolinas.kanban_project.service;
+
+import br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO;
+
+/**
+ * Publicado pelo {@link ResponsibleService} em create/update/delete e entregue após o commit.
+ * {@code responsible} é nulo quando o responsável foi removido.
+ */
+public record ResponsibleChangedEvent(String tenantId, Long responsibleId, Type type, ResponsibleResponseDTO responsible) {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+}
@@ -1,36 +1,60 @@
 package br.com.setecolinas.kanban_project.service;
 
+import br.com.setecolinas.kanban_project.cache.ProjectCache;
+import br.com.setecolinas.kanban_project.cache.TenantCacheEvictor;
+import br.com.setecolinas.kanban_project.cache.TenantRowCounter;
+import br.com.setecolinas.kanban_project.dto.CountMode;
+import br.com.setecolinas.kanban_project.dto.Cursor;
+import br.com.setecolinas.kanban_project.dto.CursorPage;
 import br.com.setecolinas.kanban_project.dto.ResponsibleRequestDTO;
 import br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO;
+import br.com.setecolinas.kanban_project.exceptions.BusinessException;
 import br.com.setecolinas.kanban_project.exceptions.NotFoundException;
 import br.com.setecolinas.kanban_project.model.Responsible;
 import br.com.setecolinas.kanban_project.model.Secretaria;
+import br.com.setecolinas.kanban_project.repository.OrganizationRepository;
 import br.com.setecolinas.kanban_project.repository.ResponsibleRepository;
 import br.com.setecolinas.kanban_project.repository.SecretariaRepository;
 import br.com.setecolinas.kanban_project.security.TenantContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.function.Supplier;
 
 @Service
 public class ResponsibleService {
 
+    public static final String ROW_COUNT = "responsible";
+
     private static final Logger log = LoggerFactory.getLogger(ResponsibleService.class);
 
     private final ResponsibleRepository repo;
     private final SecretariaRepository secRepo;
-
-    public ResponsibleService(ResponsibleRepository repo, SecretariaRepository secRepo) {
+    private final OrganizationRepository orgRepo;
+    private final TenantCacheEvictor cacheEvictor;
+    private final ProjectCache projectCache;
+    private final TenantRowCounter rowCounter;
+    private final ApplicationEventPublisher events;
+
+    public ResponsibleService(ResponsibleRepository repo, SecretariaRepository secRepo, OrganizationRepository orgRepo,
+                              TenantCacheEvictor cacheEvictor, ProjectCache projectCache, TenantRowCounter rowCounter,
+                              ApplicationEventPublisher events) {
         this.repo = repo;
         this.secRepo = secRepo;
+        this.orgRepo = orgRepo;
+        this.cacheEvictor = cacheEvictor;
+        this.projectCache = projectCache;
+        this.rowCounter = rowCounter;
+        this.events = events;
     }
 
     private <T> T withUserContext(Supplier<T> action) {
@@ -74,18 +98,15 @@ public class ResponsibleService {
     }
 
     @Transactional
-    @CacheEvict(value = "responsibles", allEntries = true)
     public ResponsibleResponseDTO create(ResponsibleRequestDTO dto) {
         return withUserContext(() -> {
             log.info("action=create.started name={}", dto.name());
 
             String tenantId = TenantContext.getCurrentTenantId();
-            var auth = org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
-            var user = (br.com.setecolinas.kanban_project.model.User) auth.getPrincipal();
 
             Responsible r = new Responsible(dto.name(), dto.email(), dto.role());
             r.setTenantId(tenantId);
-            r.setOrganization(user.getOrganization());
+            r.setOrganization(orgRepo.getReferenceById(TenantContext.getCurrentOrganizationId()));
 
             if (dto.secId() != null) {
                 Secretaria s = secRepo.findByIdAndTenantId(dto.secId(), tenantId)
@@ -95,25 +116,25 @@ public class ResponsibleService {
 
             Responsible saved = repo.save(r);
             Long secId = saved.getSecretaria() != null ? saved.getSecretaria().getId() : null;
+            cacheEvictor.evictTenant("responsiblesPage", tenantId);
+            rowCounter.increment(ROW_COUNT, tenantId);
+            ResponsibleResponseDTO out = new ResponsibleResponseDTO(saved.getId(), saved.getName(), saved.getEmail(), saved.getRole(), secId);
+            events.publishEvent(new ResponsibleChangedEvent(tenantId, saved.getId(), ResponsibleChangedEvent.Type.CREATED, out));
             log.info("action=create.finished id={}", saved.getId());
-            return new ResponsibleResponseDTO(saved.getId(), saved.getName(), saved.getEmail(), saved.getRole(), secId);
+            return out;
         });
     }
 
-    @Cacheable(value = "responsiblesPage", key = "{#search, #pageable.pageNumber, #pageable.pageSize}")
+    @Cacheable(value = "responsiblesPage", keyGenerator = "tenantKeyGenerator")
     @Transactional(readOnly = true)
     public Page<ResponsibleResponseDTO> findAll(String search, Pageable pageable) {
         return withUserContext(() -> {
             log.info("action=findAll.started search={} page={} size={}", search, pageable.getPageNumber(), pageable.getPageSize());
 
             String tenantId = TenantContext.getCurrentTenantId();
-            Page<Responsible> pageResult = (search == null || search.isBlank())
-                    ? repo.findByTenantId(tenantId, pageable)
-                    : repo.findByTenantIdAndNameContainingIgnoreCaseOrEmailContainingIgnoreCase(tenantId, search, search, pageable);
-
-            Page<ResponsibleResponseDTO> out = pageResult.map(r ->
-                    new ResponsibleResponseDTO(r.getId(), r.getName(), r.getEmail(), r.getRole(),
-                            r.getSecretaria() != null ? r.getSecretaria().getId() : null));
+            Page<ResponsibleResponseDTO> out = (search == null || search.isBlank())
+                    ? repo.findDtoByTenantId(tenantId, pageable)
+                    : repo.searchDtoByTenantId(tenantId, search, pageable);
 
             log.info("action=findAll.finished totalElements={} totalPages={}",
                     out.getTotalElements(), out.getTotalPages());
@@ -122,9 +143,61 @@ public class ResponsibleService {
         });
     }
 
+    /**
+     * Modo de contagem combinado com a busca. O total aproximado é do tenant inteiro, então
+     * {@link CountMode#APPROXIMATE} não aceita {@code search}, como na listagem filtrada de projetos.
+     */
+    @Cacheable(value = "responsiblesPage", keyGenerator = "tenantKeyGenerator")
+    @Transactional(readOnly = true)
+    public Slice<ResponsibleResponseDTO> findAll(String search, Pageable pageable, CountMode count) {
+        return withUserContext(() -> {
+            log.info("action=findAll.started search={} page={} size={} count={}",
+                    search, pageable.getPageNumber(), pageable.getPageSize(), count);
+
+            boolean searching = search != null && !search.isBlank();
+            if (count == CountMode.APPROXIMATE && searching) {
+                throw new BusinessException("count=APPROXIMATE cannot be combined with search; use count=EXACT or NONE");
+            }
+
+            String tenantId = TenantContext.getCurrentTenantId();
+            Slice<ResponsibleResponseDTO> out;
+            if (count == CountMode.EXACT) {
+                out = searching
+                        ? repo.searchDtoByTenantId(tenantId, search, pageable)
+                        : repo.findDtoByTenantId(tenantId, pageable);
+            } else {
+                Slice<ResponsibleResponseDTO> slice = searching
+                        ? repo.searchDtoSliceByTenantId(tenantId, search, pageable)
+                        : repo.findDtoSliceByTenantId(tenantId, pageable);
+                out = count == CountMode.APPROXIMATE
+                        ? TenantRowCounter.toPage(slice, rowCounter.get(ROW_COUNT, tenantId, () -> repo.countByTenantId(tenantId)))
+                        : slice;
+            }
+
+            log.info("action=findAll.finished count={} hasNext={}", out.getNumberOfElements(), out.hasNext());
+            return out;
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ResponsibleResponseDTO> findAfter(String search, String after, Integer size) {
+        return withUserContext(() -> {
+            log.info("action=findAfter.started search={} size={}", search, size);
+
+            String tenantId = TenantContext.getCurrentTenantId();
+            String pattern = (search == null || search.isBlank()) ? null : "%" + search.toLowerCase() + "%";
+            Cursor cursor = after == null ? null : Cursor.decode(after);
+            List<ResponsibleResponseDTO> rows = cursor == null
+                    ? repo.findKeysetFirst(tenantId, pattern, CursorPage.probe(size))
+                    : repo.findKeysetAfter(tenantId, pattern, cursor.sortKey(), cursor.id(), CursorPage.probe(size));
+
+            CursorPage<ResponsibleResponseDTO> out = CursorPage.of(rows, size, r -> new Cursor(r.name(), r.id()));
+            log.info("action=findAfter.finished count={} hasNext={}", out.content().size(), out.hasNext());
+            return out;
+        });
+    }
 
     @Transactional
-    @CacheEvict(value = "responsibles", allEntries = true)
     public ResponsibleResponseDTO update(Long id, ResponsibleRequestDTO dto) {
         return withUserContext(() -> {
             log.info("action=update.started id={}", id);
@@ -146,13 +219,15 @@ public class ResponsibleService {
 
             Responsible saved = repo.save(r);
             Long secId = saved.getSecretaria() != null ? saved.getSecretaria().getId() : null;
+            cacheEvictor.evictTenant("responsiblesPage", tenantId);
+            ResponsibleResponseDTO out = new ResponsibleResponseDTO(saved.getId(), saved.getName(), saved.getEmail(), saved.getRole(), secId);
+            events.publishEvent(new ResponsibleChangedEvent(tenantId, id, ResponsibleChangedEvent.Type.UPDATED, out));
             log.info("action=update.finished id={}", id);
-            return new ResponsibleResponseDTO(saved.getId(), saved.getName(), saved.getEmail(), saved.getRole(), secId);
+            return out;
         });
     }
 
     @Transactional
-    @CacheEvict(value = "responsibles", allEntries = true)
     public void delete(Long id) {
         withUserContext(() -> {
             log.info("action=delete.started id={}", id);
@@ -160,6 +235,11 @@ public class ResponsibleService {
             Responsible r = repo.findByIdAndTenantId(id, tenantId)
                     .orElseThrow(() -> new NotFoundException("Responsible not found"));
             repo.delete(r);
+            cacheEvictor.evictTenant("responsiblesPage", tenantId);
+            // Os DTOs de projeto em cache ainda trazem o id removido em responsibleIds
+            projectCache.evictTenant(tenantId);
+            rowCounter.decrement(ROW_COUNT, tenantId);
+            events.publishEvent(new ResponsibleChangedEvent(tenantId, id, ResponsibleChangedEvent.Type.DELETED, null));
             log.info("action=delete.finished id={}", id);
         });
     }
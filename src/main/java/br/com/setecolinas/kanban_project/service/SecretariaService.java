@@ -1,33 +1,57 @@
 package br.com.setecolinas.kanban_project.service;
 
+import br.com.setecolinas.kanban_project.cache.ProjectCache;
+import br.com.setecolinas.kanban_project.cache.TenantCacheEvictor;
+import br.com.setecolinas.kanban_project.cache.TenantRowCounter;
+import br.com.setecolinas.kanban_project.dto.CountMode;
+import br.com.setecolinas.kanban_project.dto.Cursor;
+import br.com.setecolinas.kanban_project.dto.CursorPage;
 import br.com.setecolinas.kanban_project.dto.SecretariaRequestDTO;
 import br.com.setecolinas.kanban_project.dto.SecretariaResponseDTO;
 import br.com.setecolinas.kanban_project.exceptions.NotFoundException;
+import br.com.setecolinas.kanban_project.model.Responsible;
 import br.com.setecolinas.kanban_project.model.Secretaria;
+import br.com.setecolinas.kanban_project.repository.OrganizationRepository;
 import br.com.setecolinas.kanban_project.repository.SecretariaRepository;
 import br.com.setecolinas.kanban_project.security.TenantContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.function.Supplier;
 
 @Service
 public class SecretariaService {
 
+    public static final String ROW_COUNT = "secretaria";
+
     private static final Logger log = LoggerFactory.getLogger(SecretariaService.class);
 
     private final SecretariaRepository repo;
-
-    public SecretariaService(SecretariaRepository repo) {
+    private final OrganizationRepository orgRepo;
+    private final TenantCacheEvictor cacheEvictor;
+    private final ProjectCache projectCache;
+    private final TenantRowCounter rowCounter;
+    private final ApplicationEventPublisher events;
+
+    public SecretariaService(SecretariaRepository repo, OrganizationRepository orgRepo,
+                             TenantCacheEvictor cacheEvictor, ProjectCache projectCache,
+                             TenantRowCounter rowCounter, ApplicationEventPublisher events) {
         this.repo = repo;
+        this.orgRepo = orgRepo;
+        this.cacheEvictor = cacheEvictor;
+        this.projectCache = projectCache;
+        this.rowCounter = rowCounter;
+        this.events = events;
     }
 
     private <T> T withUserContext(Supplier<T> action) {
@@ -69,32 +93,30 @@ public class SecretariaService {
     }
 
     @Transactional
-    @CacheEvict(value = "secretarias", allEntries = true)
     public SecretariaResponseDTO create(SecretariaRequestDTO dto) {
         return withUserContext(() -> {
             log.info("action=create.started nome={}", dto.nome());
             String tenantId = TenantContext.getCurrentTenantId();
-            var auth = SecurityContextHolder.getContext().getAuthentication();
-            var user = (br.com.setecolinas.kanban_project.model.User) auth.getPrincipal();
 
             Secretaria s = new Secretaria(dto.nome(), dto.descricao());
             s.setTenantId(tenantId);
-            s.setOrganization(user.getOrganization());
+            s.setOrganization(orgRepo.getReferenceById(TenantContext.getCurrentOrganizationId()));
             Secretaria saved = repo.save(s);
+            cacheEvictor.evictTenant("secretarias", tenantId);
+            rowCounter.increment(ROW_COUNT, tenantId);
             log.info("action=create.finished id={}", saved.getId());
             return new SecretariaResponseDTO(saved.getId(), saved.getNome(), saved.getDescricao());
         });
     }
 
-    @Cacheable("secretarias")
+    @Cacheable(value = "secretarias", keyGenerator = "tenantKeyGenerator")
     @Transactional(readOnly = true)
     public Page<SecretariaResponseDTO> findAll(Pageable pageable) {
         return withUserContext(() -> {
             log.info("action=findAll.started page={} size={}", pageable.getPageNumber(), pageable.getPageSize());
             String tenantId = TenantContext.getCurrentTenantId();
 
-            Page<SecretariaResponseDTO> out = repo.findByTenantId(tenantId, pageable)
-                    .map(s -> new SecretariaResponseDTO(s.getId(), s.getNome(), s.getDescricao()));
+            Page<SecretariaResponseDTO> out = repo.findDtoByTenantId(tenantId, pageable);
 
             log.info("action=findAll.finished totalElements={} totalPages={}",
                     out.getTotalElements(), out.getTotalPages());
@@ -103,8 +125,43 @@ public class SecretariaService {
         });
     }
 
+    @Cacheable(value = "secretarias", keyGenerator = "tenantKeyGenerator")
+    @Transactional(readOnly = true)
+    public Slice<SecretariaResponseDTO> findAll(Pageable pageable, CountMode count) {
+        return withUserContext(() -> {
+            log.info("action=findAll.started page={} size={} count={}", pageable.getPageNumber(), pageable.getPageSize(), count);
+            String tenantId = TenantContext.getCurrentTenantId();
+
+            Slice<SecretariaResponseDTO> out = switch (count) {
+                case EXACT -> repo.findDtoByTenantId(tenantId, pageable);
+                case NONE -> repo.findDtoSliceByTenantId(tenantId, pageable);
+                case APPROXIMATE -> TenantRowCounter.toPage(repo.findDtoSliceByTenantId(tenantId, pageable),
+                        rowCounter.get(ROW_COUNT, tenantId, () -> repo.countByTenantId(tenantId)));
+            };
+
+            log.info("action=findAll.finished count={} hasNext={}", out.getNumberOfElements(), out.hasNext());
+            return out;
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<SecretariaResponseDTO> findAfter(String after, Integer size) {
+        return withUserContext(() -> {
+            log.info("action=findAfter.started size={}", size);
+
+            String tenantId = TenantContext.getCurrentTenantId();
+            Cursor cursor = after == null ? null : Cursor.decode(after);
+            List<SecretariaResponseDTO> rows = cursor == null
+                    ? repo.findKeysetFirst(tenantId, CursorPage.probe(size))
+                    : repo.findKeysetAfter(tenantId, cursor.sortKey(), cursor.id(), CursorPage.probe(size));
+
+            CursorPage<SecretariaResponseDTO> out = CursorPage.of(rows, size, s -> new Cursor(s.nome(), s.id()));
+            log.info("action=findAfter.finished count={} hasNext={}", out.content().size(), out.hasNext());
+            return out;
+        });
+    }
+
     @Transactional
-    @CacheEvict(value = "secretarias", allEntries = true)
     public SecretariaResponseDTO update(Long id, SecretariaRequestDTO dto) {
         return withUserContext(() -> {
             log.info("action=update.started id={}", id);
@@ -114,20 +171,30 @@ public class SecretariaService {
             s.setNome(dto.nome());
             s.setDescricao(dto.descricao());
             Secretaria saved = repo.save(s);
+            cacheEvictor.evictTenant("secretarias", tenantId);
             log.info("action=update.finished id={}", id);
             return new SecretariaResponseDTO(saved.getId(), saved.getNome(), saved.getDescricao());
         });
     }
 
     @Transactional
-    @CacheEvict(value = "secretarias", allEntries = true)
     public void delete(Long id) {
         withUserContext(() -> {
             log.info("action=delete.started id={}", id);
             String tenantId = TenantContext.getCurrentTenantId();
             Secretaria s = repo.findByIdAndTenantId(id, tenantId)
                     .orElseThrow(() -> new NotFoundException("Secretaria not found"));
+            // Responsáveis da secretaria são removidos em cascata; os ids são lidos antes do delete
+            List<Long> responsibleIds = s.getResponsaveis().stream().map(Responsible::getId).toList();
             repo.delete(s);
+            cacheEvictor.evictTenant("secretarias", tenantId);
+            cacheEvictor.evictTenant("responsiblesPage", tenantId);
+            // Os DTOs de projeto em cache ainda trazem os ids removidos em responsibleIds
+            projectCache.evictTenant(tenantId);
+            rowCounter.decrement(ROW_COUNT, tenantId);
+            rowCounter.reset(ResponsibleService.ROW_COUNT, tenantId);
+            responsibleIds.forEach(responsibleId -> events.publishEvent(
+                    new ResponsibleChangedEvent(tenantId, responsibleId, ResponsibleChangedEvent.Type.DELETED, null)));
             log.info("action=delete.finished id={}", id);
         });
     }
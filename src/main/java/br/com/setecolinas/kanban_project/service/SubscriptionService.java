@@ -1,5 +1,6 @@
 package br.com.setecolinas.kanban_project.service;
 
+import br.com.setecolinas.kanban_project.cache.TenantCacheEvictor;
 import br.com.setecolinas.kanban_project.exceptions.ResourceNotFoundException;
 import br.com.setecolinas.kanban_project.model.*;
 import br.com.setecolinas.kanban_project.model.enums.PlanType;
@@ -7,6 +8,7 @@ import br.com.setecolinas.kanban_project.repository.OrganizationRepository;
 import br.com.setecolinas.kanban_project.repository.SubscriptionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,9 +18,12 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class SubscriptionService {
 
+    public static final String PLAN_CACHE = "tenantPlans";
+
     private final SubscriptionRepository subscriptionRepository;
     private final OrganizationRepository organizationRepository;
     private final AuditLogService auditLogService;
+    private final TenantCacheEvictor cacheEvictor;
 
     public Subscription findByOrganizationId(Long organizationId) {
         return subscriptionRepository.findByOrganizationId(organizationId)
@@ -36,6 +41,7 @@ public class SubscriptionService {
         Subscription subscription = findByTenantId(tenantId);
         subscription.setPlan(PlanType.PRO);
         subscriptionRepository.save(subscription);
+        cacheEvictor.evict(PLAN_CACHE, tenantId);
 
         auditLogService.log(tenantId, "UPGRADE_PLAN", "Subscription", subscription.getId(),
                 "Plano atualizado para PRO");
@@ -48,6 +54,7 @@ public class SubscriptionService {
         Subscription subscription = findByTenantId(tenantId);
         subscription.setPlan(PlanType.FREE);
         subscriptionRepository.save(subscription);
+        cacheEvictor.evict(PLAN_CACHE, tenantId);
 
         auditLogService.log(tenantId, "DOWNGRADE_PLAN", "Subscription", subscription.getId(),
                 "Plano degradado para FREE");
@@ -73,5 +80,13 @@ public class SubscriptionService {
         Subscription subscription = findByTenantId(tenantId);
         return subscription.getPlan();
     }
-}
 
+    /** Plano do tenant para checagens por requisição (orçamento GraphQL); sem subscription vale FREE. */
+    @Cacheable(value = PLAN_CACHE, key = "#tenantId")
+    @Transactional(readOnly = true)
+    public PlanType planOf(String tenantId) {
+        return subscriptionRepository.findByTenantId(tenantId)
+                .map(Subscription::getPlan)
+                .orElse(PlanType.FREE);
+    }
+}
@@ -11,6 +11,8 @@ import br.com.setecolinas.kanban_project.repository.OrganizationRepository;
 import br.com.setecolinas.kanban_project.repository.SubscriptionRepository;
 import br.com.setecolinas.kanban_project.repository.UserRepository;
 import br.com.setecolinas.kanban_project.security.JwtTokenProvider;
+import br.com.setecolinas.kanban_project.security.PrincipalCache;
+import br.com.setecolinas.kanban_project.security.TokenDenyList;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -32,6 +34,8 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuditLogService auditLogService;
+    private final PrincipalCache principalCache;
+    private final TokenDenyList tokenDenyList;
 
     public AuthResponseDTO register(RegisterRequestDTO request) {
         log.info("Iniciando registro de novo usuário: {}", request.email());
@@ -167,6 +171,7 @@ public class UserService {
             throw new IllegalArgumentException("Email já está em uso");
         }
 
+        principalCache.evict(user);
         user.setName(name);
         user.setEmail(email);
         userRepository.save(user);
@@ -180,6 +185,8 @@ public class UserService {
         User user = findById(userId);
         user.setActive(false);
         userRepository.save(user);
+        principalCache.evict(user);
+        tokenDenyList.revoke(user.getId());
 
         auditLogService.log(user.getTenantId(), user, "DEACTIVATE", "User", user.getId(),
                 "Usuário desativado");
@@ -195,6 +202,8 @@ public class UserService {
 
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        principalCache.evict(user);
+        tokenDenyList.revoke(user.getId());
 
         auditLogService.log(user.getTenantId(), user, "CHANGE_PASSWORD", "User", user.getId(),
                 "Senha do usuário alterada");
@@ -0,0 +1,67 @@
+package br.com.setecolinas.kanban_project.audit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Testes da exportação de audit_logs em streaming")
+class AuditLogExporterTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-10T12:00:00Z");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AuditLogExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        exporter = new AuditLogExporter(jdbcTemplate, 2);
+        new AuditLogJdbcInserter(jdbcTemplate).insert(List.of(
+                new AuditEvent("tenant-a", null, "LOGIN", "User", 1L, "login", "10.0.0.1", T0),
+                new AuditEvent("tenant-a", null, "UPDATE", "Project", 2L, "nome \"novo\", status", null, T0.plusSeconds(60)),
+                new AuditEvent("tenant-a", null, "LOGIN", "User", 1L, null, "10.0.0.1", T0.plusSeconds(3600)),
+                new AuditEvent("tenant-b", null, "LOGIN", "User", 9L, "login", "10.0.0.2", T0)));
+    }
+
+    @Test
+    @DisplayName("Deve exportar NDJSON do tenant em ordem de timestamp, uma linha por evento")
+    void export_ndjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exporter.export("tenant-a", null, null, null, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, rows);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].contains("\"action\":\"LOGIN\"") && lines[0].contains("\"userId\":null"));
+        assertTrue(lines[1].contains("\"description\":\"nome \\\"novo\\\", status\""));
+        assertTrue(lines[2].contains("\"timestamp\":\"2026-01-10T13:00:00Z\""));
+    }
+
+    @Test
+    @DisplayName("Deve exportar CSV filtrando por período e ação, com escape de aspas e vírgulas")
+    void export_csvWithFilters() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exporter.export("tenant-a", T0, T0.plusSeconds(3600), "UPDATE", ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, rows);
+        assertEquals("id,user_id,action,entity_type,entity_id,description,ip_address,timestamp", lines[0]);
+        assertTrue(lines[1].endsWith(",,UPDATE,Project,2,\"nome \"\"novo\"\", status\",,2026-01-10T12:01:00Z"));
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.setecolinas.kanban_project.audit;
+
+import br.com.setecolinas.kanban_project.model.AuditLog;
+import br.com.setecolinas.kanban_project.repository.AuditLogRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Testes de gravação e consulta de audit_logs")
+class AuditLogJdbcInserterTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AuditLogRepository repo;
+
+    @Test
+    @DisplayName("Deve gravar o lote multi-linha e consultá-lo por tenant e período")
+    void writerBatch_shouldBeReadableByRepository() {
+        AuditLogJdbcInserter inserter = new AuditLogJdbcInserter(jdbcTemplate);
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        inserter.insert(List.of(
+                new AuditEvent("tenant-a", null, "LOGIN", "User", 1L, "login", "10.0.0.1", now),
+                new AuditEvent("tenant-a", null, "UPGRADE_PLAN", "Subscription", 2L, null, "10.0.0.1", now),
+                new AuditEvent("tenant-b", null, "LOGIN", "User", 3L, "login", "10.0.0.2", now)));
+
+        Page<AuditLog> page = repo.findByTenantIdAndTimestampBetween("tenant-a",
+                now.minusSeconds(1), now.plusSeconds(1), PageRequest.of(0, 10));
+
+        assertEquals(2, page.getTotalElements());
+        assertTrue(page.stream().allMatch(log -> log.getIpAddress().equals("10.0.0.1")));
+    }
+}
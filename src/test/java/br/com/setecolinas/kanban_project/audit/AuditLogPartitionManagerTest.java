@@ -0,0 +1,39 @@
+package br.com.setecolinas.kanban_project.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AuditLogPartitionManager Tests")
+class AuditLogPartitionManagerTest {
+
+    @Test
+    @DisplayName("Should ensure current month plus months ahead")
+    void testMonthsToEnsure() {
+        assertThat(AuditLogPartitionManager.monthsToEnsure(YearMonth.of(2026, 11), 2))
+                .containsExactly(YearMonth.of(2026, 11), YearMonth.of(2026, 12), YearMonth.of(2027, 1));
+    }
+
+    @Test
+    @DisplayName("Should build monthly partition with half-open UTC bounds")
+    void testCreatePartitionSql() {
+        assertThat(AuditLogPartitionManager.partitionName(YearMonth.of(2026, 12))).isEqualTo("audit_logs_p202612");
+        assertThat(AuditLogPartitionManager.createPartitionSql(YearMonth.of(2026, 12)))
+                .isEqualTo("create table if not exists audit_logs_p202612 partition of audit_logs "
+                        + "for values from ('2026-12-01 00:00:00+00') to ('2027-01-01 00:00:00+00')");
+    }
+
+    @Test
+    @DisplayName("Should select only monthly partitions older than retention")
+    void testExpiredPartitions() {
+        List<String> attached = List.of("audit_logs_p202511", "audit_logs_default", "audit_logs_p202509",
+                "audit_logs_p202510", "audit_logs_p202610");
+
+        assertThat(AuditLogPartitionManager.expiredPartitions(attached, YearMonth.of(2026, 10), 12))
+                .containsExactly("audit_logs_p202509");
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.setecolinas.kanban_project.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes para AuditLogWriter")
+class AuditLogWriterTest {
+
+    private final AuditLogJdbcInserter inserter = mock(AuditLogJdbcInserter.class);
+    private final AuditSpillStore spillStore = mock(AuditSpillStore.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AuditLogWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) writer.stop();
+    }
+
+    @Test
+    @DisplayName("Deve gravar em lotes por tamanho")
+    void shouldFlushInMultiRowBatches() {
+        writer = writer(100, 3, OverflowPolicy.BLOCK);
+        for (int i = 0; i < 5; i++) writer.enqueue(event(i));
+
+        // O writer reaproveita a lista do lote: guarda só o tamanho de cada chamada
+        List<Integer> sizes = new CopyOnWriteArrayList<>();
+        doAnswer(inv -> sizes.add(inv.<List<AuditEvent>>getArgument(0).size())).when(inserter).insert(any());
+
+        writer.start();
+
+        verify(inserter, timeout(2000).times(2)).insert(any());
+        assertEquals(List.of(3, 2), sizes);
+        assertEquals(5, meterRegistry.counter("audit.events", "result", "written").count());
+    }
+
+    @Test
+    @DisplayName("Deve descartar quando a fila está cheia com a política DROP")
+    void shouldDropWhenFull() {
+        writer = writer(2, 10, OverflowPolicy.DROP);
+
+        assertTrue(writer.enqueue(event(1)));
+        assertTrue(writer.enqueue(event(2)));
+        assertFalse(writer.enqueue(event(3)));
+        assertEquals(1, meterRegistry.counter("audit.events", "result", "dropped").count());
+    }
+
+    @Test
+    @DisplayName("Deve enviar para o spill quando a fila está cheia com a política SPILL")
+    void shouldSpillWhenFull() {
+        when(spillStore.append(any())).thenReturn(true);
+        writer = writer(1, 10, OverflowPolicy.SPILL);
+
+        assertTrue(writer.enqueue(event(1)));
+        assertTrue(writer.enqueue(event(2)));
+
+        verify(spillStore, times(1)).append(event(2));
+        assertEquals(0, meterRegistry.counter("audit.events", "result", "dropped").count());
+    }
+
+    @Test
+    @DisplayName("Deve drenar a fila no shutdown")
+    void stop_shouldDrainQueue() {
+        writer = writer(100, 500, OverflowPolicy.BLOCK);
+        writer.start();
+        for (int i = 0; i < 20; i++) writer.enqueue(event(i));
+
+        writer.stop();
+
+        assertEquals(0, writer.pending());
+        assertEquals(20, meterRegistry.counter("audit.events", "result", "written").count());
+    }
+
+    @Test
+    @DisplayName("Deve enviar o lote para o spill quando o banco falha")
+    void flush_shouldSpillOnDatabaseFailure() {
+        doThrow(new CannotGetJdbcConnectionException("db down")).when(inserter).insert(any());
+        when(spillStore.append(any())).thenReturn(true, false);
+        writer = writer(100, 10, OverflowPolicy.BLOCK);
+
+        writer.flush(List.of(event(1), event(2)));
+
+        verify(spillStore, times(2)).append(any());
+        assertEquals(1, meterRegistry.counter("audit.events", "result", "failed").count());
+    }
+
+    @Test
+    @DisplayName("Deve gravar linha a linha e pôr em quarentena a linha rejeitada pelo banco")
+    void flush_shouldQuarantineRejectedRow() {
+        doAnswer(inv -> {
+            List<AuditEvent> batch = inv.getArgument(0);
+            if (batch.contains(event(2))) throw new DataIntegrityViolationException("bad row");
+            return null;
+        }).when(inserter).insert(any());
+        when(spillStore.quarantine(any())).thenReturn(true);
+        writer = writer(100, 10, OverflowPolicy.BLOCK);
+
+        writer.flush(List.of(event(1), event(2), event(3)));
+
+        verify(spillStore).quarantine(List.of(event(2)));
+        verify(spillStore, never()).append(any());
+        assertEquals(2, meterRegistry.counter("audit.events", "result", "written").count());
+    }
+
+    private AuditLogWriter writer(int capacity, int batchSize, OverflowPolicy policy) {
+        return new AuditLogWriter(inserter, spillStore, meterRegistry, capacity, batchSize, 50, 10, 5000, policy);
+    }
+
+    private static AuditEvent event(int i) {
+        return new AuditEvent("tenant-a", 1L, "LOGIN", "User", (long) i, "evento " + i, "127.0.0.1",
+                Instant.ofEpochSecond(1_700_000_000L + i));
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.setecolinas.kanban_project.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes para AuditSpillReplayer")
+class AuditSpillReplayerTest {
+
+    @TempDir
+    Path dir;
+
+    private final AuditLogJdbcInserter inserter = mock(AuditLogJdbcInserter.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private AuditSpillStore store;
+    private AuditSpillReplayer replayer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new AuditSpillStore(dir, 4096, registry);
+        replayer = new AuditSpillReplayer(store, inserter, mock(PlatformTransactionManager.class), registry, 2);
+        for (int i = 0; i < 5; i++) {
+            store.append(new AuditEvent("tenant-a", 1L, "LOGIN", "User", (long) i, null, null, Instant.now()));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve regravar em lotes e apagar o segmento")
+    void replay_shouldInsertBatchesAndDeleteSegment() {
+        replayer.replay();
+
+        verify(inserter, times(3)).insert(any());
+        assertTrue(store.sealedSegments().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve manter o segmento quando o banco ainda está indisponível")
+    void replay_shouldKeepSegmentOnFailure() {
+        doThrow(new CannotGetJdbcConnectionException("db down")).when(inserter).insert(any());
+
+        replayer.replay();
+
+        assertEquals(1, store.sealedSegments().size());
+    }
+
+    @Test
+    @DisplayName("Deve isolar a linha inválida na quarentena e apagar o segmento")
+    void replay_shouldQuarantinePoisonRowAndDeleteSegment() throws IOException {
+        doAnswer(inv -> {
+            List<AuditEvent> batch = inv.getArgument(0);
+            if (batch.stream().anyMatch(e -> e.entityId() == 3L)) throw new DataIntegrityViolationException("bad row");
+            return null;
+        }).when(inserter).insert(any());
+
+        replayer.replay();
+
+        assertTrue(store.sealedSegments().isEmpty());
+        assertEquals(1, registry.counter("audit.events", "result", "quarantined").count());
+        assertEquals(4, registry.counter("audit.events", "result", "replayed").count());
+        try (Stream<Path> files = Files.list(dir.resolve("quarantine"))) {
+            List<AuditEvent> quarantined = AuditSpillStore.read(files.findFirst().orElseThrow());
+            assertEquals(List.of(3L), quarantined.stream().map(AuditEvent::entityId).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter no segmento só as linhas restantes quando o banco cai no meio da regravação")
+    void replay_shouldRewriteSegmentWithRemainingRowsOnTransientFailure() throws IOException {
+        doAnswer(inv -> {
+            List<AuditEvent> batch = inv.getArgument(0);
+            if (batch.size() > 1) throw new DataIntegrityViolationException("bad row");
+            if (batch.get(0).entityId() == 2L) throw new CannotGetJdbcConnectionException("db down");
+            return null;
+        }).when(inserter).insert(any());
+
+        replayer.replay();
+
+        List<Path> segments = store.sealedSegments();
+        assertEquals(1, segments.size());
+        assertEquals(List.of(2L, 3L, 4L), AuditSpillStore.read(segments.get(0)).stream().map(AuditEvent::entityId).toList());
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.setecolinas.kanban_project.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes para AuditSpillStore")
+class AuditSpillStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Deve gravar e reler eventos preservando campos nulos")
+    void appendAndRead_shouldRoundTrip() throws IOException {
+        AuditSpillStore store = store(4096);
+        AuditEvent withNulls = new AuditEvent("tenant-a", null, "LOGIN", "User", null, null, null, Instant.now());
+
+        assertTrue(store.append(event(1)));
+        assertTrue(store.append(withNulls));
+
+        List<Path> segments = store.sealedSegments();
+        assertEquals(1, segments.size());
+        assertEquals(List.of(event(1), withNulls), AuditSpillStore.read(segments.get(0)));
+    }
+
+    @Test
+    @DisplayName("Deve rotacionar o segmento ao encher")
+    void append_shouldRotateSegments() throws IOException {
+        AuditSpillStore store = store(256);
+        for (int i = 0; i < 10; i++) store.append(event(i));
+
+        List<Path> segments = store.sealedSegments();
+        assertTrue(segments.size() > 1);
+
+        int total = 0;
+        for (Path segment : segments) total += AuditSpillStore.read(segment).size();
+        assertEquals(10, total);
+    }
+
+    @Test
+    @DisplayName("Deve parar no registro com checksum inválido")
+    void read_shouldStopAtCorruptedRecord() throws IOException {
+        AuditSpillStore store = store(4096);
+        store.append(event(1));
+        store.append(event(2));
+        Path segment = store.sealedSegments().get(0);
+
+        // Corrompe um byte do payload do segundo registro ([tamanho][crc][payload])
+        int secondRecord = 8 + payloadLength(segment);
+        try (FileChannel ch = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            ch.write(ByteBuffer.wrap(new byte[]{0x7f}), secondRecord + 12);
+        }
+
+        assertEquals(List.of(event(1)), AuditSpillStore.read(segment));
+    }
+
+    @Test
+    @DisplayName("Deve continuar a numeração dos segmentos após reinício")
+    void reopen_shouldKeepExistingSegments() throws IOException {
+        store(4096).append(event(1));
+
+        AuditSpillStore reopened = store(4096);
+        reopened.append(event(2));
+
+        List<Path> segments = reopened.sealedSegments();
+        assertEquals(2, segments.size());
+        assertEquals(List.of(event(1)), AuditSpillStore.read(segments.get(0)));
+        assertEquals(List.of(event(2)), AuditSpillStore.read(segments.get(1)));
+    }
+
+    @Test
+    @DisplayName("Deve expor no gauge os segmentos aguardando replay")
+    void bindTo_shouldGaugeSegments() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AuditSpillStore store = store(4096);
+        store.bindTo(registry);
+        store.append(event(1));
+
+        assertEquals(1.0, registry.get("audit.spill.segments").gauge().value());
+    }
+
+    private AuditSpillStore store(int segmentSize) throws IOException {
+        return new AuditSpillStore(dir, segmentSize, new SimpleMeterRegistry());
+    }
+
+    private static int payloadLength(Path segment) throws IOException {
+        try (FileChannel ch = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer length = ByteBuffer.allocate(4);
+            ch.read(length, 0);
+            return length.flip().getInt();
+        }
+    }
+
+    private static AuditEvent event(int i) {
+        return new AuditEvent("tenant-a", 1L, "LOGIN", "User", (long) i, "evento " + i, "127.0.0.1",
+                Instant.ofEpochSecond(1_700_000_000L + i, 123));
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.setecolinas.kanban_project.board;
+
+import br.com.setecolinas.kanban_project.dto.ProjectResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do stream SSE do quadro")
+class BoardEventStreamTest {
+
+    private static final String TENANT = "tenant-a";
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private BoardEventStream stream;
+
+    @BeforeEach
+    void setUp() {
+        stream = newStream(4, 3, 2);
+    }
+
+    @Test
+    @DisplayName("Deve entregar eventos só às conexões do tenant")
+    void on_shouldDeliverToTenantConnections() {
+        stream.subscribe(TENANT, null);
+        stream.subscribe("tenant-b", null);
+
+        stream.on(event(TENANT, 1L, ProjectChangedEvent.Type.CREATED));
+        stream.on(event(TENANT, 1L, ProjectChangedEvent.Type.DELETED));
+
+        assertEquals(List.of("created", "deleted"), emitters.get(0).names());
+        assertEquals(List.of(), emitters.get(1).names());
+    }
+
+    @Test
+    @DisplayName("Deve reenviar os eventos depois do Last-Event-ID e pedir reset quando saiu do buffer")
+    void subscribe_shouldReplayFromRingBuffer() {
+        stream.subscribe(TENANT, null);
+        for (long id = 1; id <= 5; id++) {
+            stream.on(event(TENANT, id, ProjectChangedEvent.Type.UPDATED));
+        }
+        List<String> ids = emitters.get(0).ids();
+        emitters.get(0).complete();
+
+        stream.subscribe(TENANT, ids.get(2));
+        assertEquals(ids.subList(3, 5), emitters.get(1).ids());
+
+        stream.subscribe(TENANT, ids.get(0));
+        assertEquals(List.of(BoardEventStream.RESET), emitters.get(2).names());
+    }
+
+    @Test
+    @DisplayName("Deve pedir reset para ids de antes de um restart")
+    void subscribe_withForeignEpoch_shouldReset() {
+        stream.subscribe(TENANT, "0-1");
+
+        assertEquals(List.of(BoardEventStream.RESET), emitters.get(0).names());
+    }
+
+    @Test
+    @DisplayName("Deve limitar conexões por tenant e liberar a vaga ao fechar")
+    void subscribe_shouldCapConnectionsPerTenant() {
+        assertTrue(stream.subscribe(TENANT, null).isPresent());
+        assertTrue(stream.subscribe(TENANT, null).isPresent());
+        assertTrue(stream.subscribe(TENANT, null).isEmpty());
+
+        emitters.get(0).complete();
+
+        assertEquals(1, stream.connections(TENANT));
+        assertTrue(stream.subscribe(TENANT, null).isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve fechar a conexão quando a fila do cliente lento enche")
+    void offer_whenBufferFull_shouldCloseConnection() {
+        List<Runnable> pending = new ArrayList<>();
+        stream = new BoardEventStream(pending::add, new SimpleMeterRegistry(), 2, 10, 5, 0) {
+            @Override
+            SseEmitter createEmitter(long timeout) {
+                return record();
+            }
+        };
+        stream.subscribe(TENANT, null);
+
+        stream.on(event(TENANT, 1L, ProjectChangedEvent.Type.CREATED));
+        stream.on(event(TENANT, 2L, ProjectChangedEvent.Type.CREATED));
+
+        assertEquals(0, stream.connections(TENANT));
+        assertTrue(emitters.get(0).completed);
+    }
+
+    private BoardEventStream newStream(int bufferSize, int replaySize, int maxConnections) {
+        return new BoardEventStream(Runnable::run, new SimpleMeterRegistry(), bufferSize, replaySize, maxConnections, 0) {
+            @Override
+            SseEmitter createEmitter(long timeout) {
+                return record();
+            }
+        };
+    }
+
+    private RecordingEmitter record() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    private static ProjectChangedEvent event(String tenantId, Long id, ProjectChangedEvent.Type type) {
+        ProjectResponseDTO project = type == ProjectChangedEvent.Type.DELETED ? null
+                : new ProjectResponseDTO(id, "Projeto " + id, "A_INICIAR", null, null, null, null, 0, 0.0, Set.of());
+        return new ProjectChangedEvent(tenantId, id, type, project);
+    }
+
+    /** Guarda o texto de cada evento enviado e dispara o callback de fechamento no complete. */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new ArrayList<>();
+        private final List<Runnable> completion = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder.build().stream().map(d -> String.valueOf(d.getData())).collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            completion.add(callback);
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            completion.forEach(Runnable::run);
+        }
+
+        List<String> names() {
+            return field("event:");
+        }
+
+        List<String> ids() {
+            return field("id:");
+        }
+
+        private List<String> field(String prefix) {
+            List<String> out = new ArrayList<>();
+            for (String event : sent) {
+                for (String line : event.split("\n")) {
+                    if (line.startsWith(prefix)) out.add(line.substring(prefix.length()));
+                }
+            }
+            return out;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.setecolinas.kanban_project.board;
+
+import br.com.setecolinas.kanban_project.dto.BoardColumnDTO;
+import br.com.setecolinas.kanban_project.dto.BoardDTO;
+import br.com.setecolinas.kanban_project.dto.ProjectResponseDTO;
+import br.com.setecolinas.kanban_project.model.Organization;
+import br.com.setecolinas.kanban_project.model.User;
+import br.com.setecolinas.kanban_project.security.ClaimsPrincipal;
+import br.com.setecolinas.kanban_project.service.ProjectService;
+import br.com.setecolinas.kanban_project.service.ResponsibleChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes do quadro kanban em memória")
+class BoardServiceTest {
+
+    private static final String TENANT = "tenant-a";
+    private static final LocalDate D = LocalDate.of(2026, 10, 1);
+
+    private ProjectService projectService;
+    private BoardService board;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        projectService = mock(ProjectService.class);
+        doAnswer(inv -> {
+            Consumer<ProjectResponseDTO> consumer = inv.getArgument(1);
+            consumer.accept(card(1L, "A_INICIAR", D.plusDays(10)));
+            consumer.accept(card(2L, "ATRASADO", D.minusDays(3)));
+            consumer.accept(card(3L, "A_INICIAR", D.plusDays(2)));
+            consumer.accept(card(4L, "A_INICIAR", null));
+            return null;
+        }).when(projectService).forEachCard(eq(TENANT), any(Consumer.class));
+        board = new BoardService(projectService, new CaffeineCacheManager(BoardService.CACHE));
+
+        User user = User.builder().id(1L).email("admin@org-a.com").tenantId(TENANT)
+                .organization(Organization.builder().id(1L).tenantId(TENANT).build()).build();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(ClaimsPrincipal.of(user), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve agrupar por status com total e os primeiros N cards por prazo")
+    void board_shouldGroupAndLimit() {
+        BoardDTO out = board.board(2);
+
+        assertEquals(List.of("A_INICIAR", "EM_ANDAMENTO", "ATRASADO", "CONCLUIDO"),
+                out.columns().stream().map(BoardColumnDTO::status).toList());
+        BoardColumnDTO aIniciar = out.columns().get(0);
+        assertEquals(3, aIniciar.count());
+        assertEquals(List.of(3L, 1L), aIniciar.cards().stream().map(ProjectResponseDTO::id).toList());
+        assertEquals(0, out.columns().get(1).count());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar eventos no snapshot sem recarregar do banco")
+    void on_shouldUpdateIncrementally() {
+        board.board(10);
+
+        board.on(new ProjectChangedEvent(TENANT, 3L, ProjectChangedEvent.Type.TRANSITIONED, card(3L, "EM_ANDAMENTO", D.plusDays(2))));
+        board.on(new ProjectChangedEvent(TENANT, 2L, ProjectChangedEvent.Type.DELETED, null));
+        board.on(new ProjectChangedEvent(TENANT, 5L, ProjectChangedEvent.Type.CREATED, card(5L, "CONCLUIDO", D)));
+        BoardDTO out = board.board(10);
+
+        assertEquals(List.of(2L, 1L, 0L, 1L), out.columns().stream().map(BoardColumnDTO::count).toList());
+        assertEquals(3L, out.columns().get(1).cards().get(0).id());
+        verify(projectService, times(1)).forEachCard(eq(TENANT), any());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar eventos de tenant sem snapshot e recarregar após evict")
+    void on_withoutSnapshot_shouldBeIgnored() {
+        board.on(new ProjectChangedEvent(TENANT, 9L, ProjectChangedEvent.Type.CREATED, card(9L, "ATRASADO", D)));
+        assertEquals(1, board.board(10).columns().get(2).count());
+
+        board.evict(TENANT);
+        board.board(10);
+
+        verify(projectService, times(2)).forEachCard(eq(TENANT), any());
+    }
+
+    @Test
+    @DisplayName("Deve tirar dos cards o responsável removido")
+    void on_responsibleDeleted_shouldDropIdFromCards() {
+        board.board(10);
+
+        board.on(new ProjectChangedEvent(TENANT, 6L, ProjectChangedEvent.Type.CREATED,
+                new ProjectResponseDTO(6L, "Projeto 6", "CONCLUIDO", null, D, null, null, 0, 0.0, Set.of(7L, 8L))));
+        board.on(new ResponsibleChangedEvent(TENANT, 7L, ResponsibleChangedEvent.Type.DELETED, null));
+
+        ProjectResponseDTO card = board.board(10).columns().get(3).cards().get(0);
+        assertEquals(Set.of(8L), card.responsibleIds());
+        verify(projectService, times(1)).forEachCard(eq(TENANT), any());
+    }
+
+    private static ProjectResponseDTO card(Long id, String status, LocalDate plannedEnd) {
+        return new ProjectResponseDTO(id, "Projeto " + id, status, null, plannedEnd, null, null, 0, 0.0, Set.of());
+    }
+}
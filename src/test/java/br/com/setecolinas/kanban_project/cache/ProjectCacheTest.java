@@ -0,0 +1,132 @@
+package br.com.setecolinas.kanban_project.cache;
+
+import br.com.setecolinas.kanban_project.dto.ProjectResponseDTO;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes para ProjectCache")
+class ProjectCacheTest {
+
+    private static final Pageable PAGE = PageRequest.of(0, 10);
+
+    private CaffeineCacheManager manager;
+    private ProjectCache cache;
+    private AtomicInteger pageQueries;
+    private AtomicInteger batchQueries;
+
+    @BeforeEach
+    void setUp() {
+        manager = new CaffeineCacheManager();
+        manager.registerCustomCache(ProjectCache.PROJECT, Caffeine.newBuilder().maximumSize(100).build());
+        manager.registerCustomCache(ProjectCache.PAGE_IDS, Caffeine.newBuilder().maximumSize(100).build());
+        cache = new ProjectCache(manager, new TenantCacheEvictor(manager));
+        pageQueries = new AtomicInteger();
+        batchQueries = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Deve servir a página do cache após o primeiro carregamento")
+    void getPage_shouldLoadOnce() {
+        Page<ProjectResponseDTO> first = loadPage("tenant-a", "Projeto 1");
+        Page<ProjectResponseDTO> second = loadPage("tenant-a", "Projeto 1");
+
+        assertEquals(1, pageQueries.get());
+        assertEquals(0, batchQueries.get());
+        assertEquals(first.getContent(), second.getContent());
+        assertEquals(2, second.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar apenas o projeto invalidado ao remontar a página")
+    void evict_shouldReloadOnlyChangedProject() {
+        loadPage("tenant-a", "Projeto 1");
+        // Um write invalida o projeto 1 e o índice do tenant; o projeto 2 continua em cache
+        cache.evict("tenant-a", 1L);
+
+        Page<ProjectResponseDTO> page = loadPage("tenant-a", "Projeto 1 atualizado");
+
+        assertEquals(2, pageQueries.get());
+        assertEquals("Projeto 1 atualizado", page.getContent().get(0).name());
+        assertEquals(1L, page.getContent().get(0).id());
+    }
+
+    @Test
+    @DisplayName("Deve manter o índice de páginas dos outros tenants")
+    void evict_shouldKeepOtherTenants() {
+        loadPage("tenant-a", "Projeto 1");
+        loadPage("tenant-b", "Projeto 1");
+
+        cache.evictPages("tenant-a");
+        loadPage("tenant-b", "Projeto 1");
+
+        assertEquals(2, pageQueries.get());
+    }
+
+    @Test
+    @DisplayName("Deve buscar em lote projetos do índice que saíram do cache de entidades")
+    void getPage_shouldBatchLoadMissingEntities() {
+        loadPage("tenant-a", "Projeto 1");
+        new TenantCacheEvictor(manager).evict(ProjectCache.PROJECT, TenantCacheKey.of("tenant-a", 2L));
+
+        Page<ProjectResponseDTO> page = loadPage("tenant-a", "Projeto 1");
+
+        assertEquals(1, pageQueries.get());
+        assertEquals(1, batchQueries.get());
+        assertEquals(List.of(1L, 2L), page.map(ProjectResponseDTO::id).getContent());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar todos os projetos do tenant, mantendo os dos outros")
+    void evictTenant_shouldDropAllProjectsOfTenant() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("tenant-a", 1L, () -> { loads.incrementAndGet(); return Optional.of(dto(1L, "A")); });
+        cache.get("tenant-b", 1L, () -> { loads.incrementAndGet(); return Optional.of(dto(1L, "B")); });
+
+        cache.evictTenant("tenant-a");
+        cache.get("tenant-a", 1L, () -> { loads.incrementAndGet(); return Optional.of(dto(1L, "A")); });
+        cache.get("tenant-b", 1L, () -> { loads.incrementAndGet(); return Optional.of(dto(1L, "B")); });
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("Não deve manter em cache projeto inexistente")
+    void get_shouldNotCacheMissing() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertTrue(cache.get("tenant-a", 9L, () -> { loads.incrementAndGet(); return Optional.empty(); }).isEmpty());
+        assertTrue(cache.get("tenant-a", 9L, () -> { loads.incrementAndGet(); return Optional.empty(); }).isEmpty());
+
+        assertEquals(2, loads.get());
+    }
+
+    private Page<ProjectResponseDTO> loadPage(String tenantId, String firstName) {
+        return cache.getPage(tenantId, PAGE,
+                () -> {
+                    pageQueries.incrementAndGet();
+                    return new PageImpl<>(List.of(dto(1L, firstName), dto(2L, "Projeto 2")), PAGE, 2);
+                },
+                ids -> {
+                    batchQueries.incrementAndGet();
+                    return ids.stream().map(id -> dto(id, "Projeto " + id)).toList();
+                });
+    }
+
+    private static ProjectResponseDTO dto(Long id, String name) {
+        return new ProjectResponseDTO(id, name, null, null, null, null, null, 0, 0.0, Set.of());
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.setecolinas.kanban_project.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes para TenantCacheEvictor")
+class TenantCacheEvictorTest {
+
+    private Cache cache;
+    private TenantCacheEvictor evictor;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.registerCustomCache("projects", Caffeine.newBuilder().maximumSize(100).build());
+        cache = manager.getCache("projects");
+        evictor = new TenantCacheEvictor(manager);
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas as entradas do tenant informado")
+    void evictTenant_shouldKeepOtherTenants() {
+        cache.put(TenantCacheKey.of("tenant-a", 0, 10), "page-a0");
+        cache.put(TenantCacheKey.of("tenant-a", 1, 10), "page-a1");
+        cache.put(TenantCacheKey.of("tenant-b", 0, 10), "page-b0");
+
+        evictor.evictTenant("projects", "tenant-a");
+
+        assertNull(cache.get(TenantCacheKey.of("tenant-a", 0, 10)));
+        assertNull(cache.get(TenantCacheKey.of("tenant-a", 1, 10)));
+        assertNotNull(cache.get(TenantCacheKey.of("tenant-b", 0, 10)));
+    }
+
+    @Test
+    @DisplayName("Não deve falhar para cache inexistente")
+    void evictTenant_shouldIgnoreUnknownCache() {
+        assertDoesNotThrow(() -> evictor.evictTenant("unknown", "tenant-a"));
+    }
+}
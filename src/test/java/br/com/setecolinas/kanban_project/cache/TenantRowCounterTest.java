@@ -0,0 +1,67 @@
+package br.com.setecolinas.kanban_project.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes para TenantRowCounter")
+class TenantRowCounterTest {
+
+    private TenantRowCounter counter;
+    private AtomicInteger counts;
+
+    @BeforeEach
+    void setUp() {
+        counter = new TenantRowCounter(new CaffeineCacheManager(TenantRowCounter.CACHE));
+        counts = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Deve contar uma vez e ajustar em create/delete")
+    void get_shouldCountOnceAndTrackDeltas() {
+        assertEquals(10, get("tenant-a"));
+
+        counter.increment("project", "tenant-a");
+        counter.increment("project", "tenant-a");
+        counter.decrement("project", "tenant-a");
+
+        assertEquals(11, get("tenant-a"));
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    @DisplayName("Deve recontar após reset e isolar tenants")
+    void reset_shouldForceRecount() {
+        get("tenant-a");
+        get("tenant-b");
+        counter.reset("project", "tenant-a");
+        get("tenant-a");
+        get("tenant-b");
+
+        assertEquals(3, counts.get());
+    }
+
+    @Test
+    @DisplayName("Não deve informar total menor que o já visto na fatia")
+    void toPage_shouldNotUnderReport() {
+        var slice = new SliceImpl<>(List.of("a", "b"), PageRequest.of(2, 2), true);
+
+        assertEquals(7, TenantRowCounter.toPage(slice, 3).getTotalElements());
+        assertEquals(50, TenantRowCounter.toPage(slice, 50).getTotalElements());
+    }
+
+    private long get(String tenantId) {
+        return counter.get("project", tenantId, () -> {
+            counts.incrementAndGet();
+            return 10;
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.setecolinas.kanban_project.component;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DataSourceConcurrencyLimiter Tests")
+class DataSourceConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("Should time out when all permits are held and release them on close")
+    void testLimitsAndReleases() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection physical = mock(Connection.class);
+        when(target.getConnection()).thenReturn(physical);
+        DataSourceConcurrencyLimiter limiter = new DataSourceConcurrencyLimiter(target, 1, 50, new SimpleMeterRegistry());
+
+        Connection first = limiter.getConnection();
+        assertThatThrownBy(limiter::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        first.close();
+        verify(physical, times(2)).close();
+
+        Connection second = limiter.getConnection();
+        assertThat(second).isNotSameAs(first);
+        assertThatThrownBy(limiter::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.setecolinas.kanban_project.component;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RequestContextTaskDecorator Tests")
+class RequestContextTaskDecoratorTest {
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should propagate MDC and SecurityContext to a virtual thread")
+    void testPropagatesToVirtualThread() throws Exception {
+        MDC.put("requestId", "req-1");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("joao@example.com", null));
+        AtomicReference<String> requestId = new AtomicReference<>();
+        AtomicReference<String> user = new AtomicReference<>();
+
+        Runnable task = new RequestContextTaskDecorator().decorate(() -> {
+            requestId.set(MDC.get("requestId"));
+            user.set(SecurityContextHolder.getContext().getAuthentication().getName());
+        });
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture.runAsync(task, executor).get();
+        }
+
+        assertThat(requestId.get()).isEqualTo("req-1");
+        assertThat(user.get()).isEqualTo("joao@example.com");
+    }
+
+    @Test
+    @DisplayName("Should restore the executing thread context after the task")
+    void testRestoresContext() {
+        MDC.put("requestId", "req-1");
+        Runnable task = new RequestContextTaskDecorator().decorate(() -> { });
+        MDC.put("requestId", "worker");
+
+        task.run();
+
+        assertThat(MDC.get("requestId")).isEqualTo("worker");
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.setecolinas.kanban_project.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SchemaInitializer Tests")
+class SchemaInitializerTest {
+
+    @Test
+    @DisplayName("Should build concurrent, idempotent index creation")
+    void testCreateIndexSql() {
+        assertThat(SchemaInitializer.createIndexSql(
+                new SchemaInitializer.IndexDefinition("idx_project_tenant_name_id", "project", "tenant_id, name, id")))
+                .isEqualTo("create index concurrently if not exists idx_project_tenant_name_id "
+                        + "on project (tenant_id, name, id)");
+    }
+
+    @Test
+    @DisplayName("Should restart sequence only when the next pooled block overlaps existing ids")
+    void testNeedsRestart() {
+        // Sequência nova (ou criada pelo ddl-auto update) numa tabela com ids de IDENTITY
+        assertThat(SchemaInitializer.needsRestart(1, 1200, 50)).isTrue();
+        // nextval 1250 entrega 1201..1250
+        assertThat(SchemaInitializer.needsRestart(1250, 1200, 50)).isFalse();
+        assertThat(SchemaInitializer.needsRestart(1249, 1200, 50)).isTrue();
+        // Tabela vazia: o pooled trata o valor inicial 1 sem colisão
+        assertThat(SchemaInitializer.needsRestart(1, 0, 50)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should declare each index once")
+    void testIndexesAreUnique() {
+        assertThat(SchemaInitializer.INDEXES)
+                .extracting(SchemaInitializer.IndexDefinition::name)
+                .doesNotHaveDuplicates();
+    }
+}
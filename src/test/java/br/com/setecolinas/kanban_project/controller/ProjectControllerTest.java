@@ -1,5 +1,8 @@
 package br.com.setecolinas.kanban_project.controller;
 
+import br.com.setecolinas.kanban_project.dto.BulkItemResultDTO;
+import br.com.setecolinas.kanban_project.dto.BulkResultDTO;
+import br.com.setecolinas.kanban_project.dto.ProjectFilter;
 import br.com.setecolinas.kanban_project.dto.ProjectRequestDTO;
 import br.com.setecolinas.kanban_project.dto.ProjectResponseDTO;
 import br.com.setecolinas.kanban_project.model.enums.ProjectStatus;
@@ -82,17 +85,18 @@ class ProjectControllerUnitaryTest {
     @DisplayName("Deve retornar página de projetos")
     void findAll_shouldReturnPageOfProjects() {
         Pageable pageable = PageRequest.of(0, 10);
+        ProjectFilter filter = new ProjectFilter(null, null, null, null, null, null, null, null);
         Page<ProjectResponseDTO> page = new PageImpl<>(List.of(responseDTO), pageable, 1);
-        when(service.findAll(pageable)).thenReturn(page);
+        when(service.findAll(filter, pageable)).thenReturn(page);
 
-        ResponseEntity<Page<ProjectResponseDTO>> response = controller.findAll(pageable);
+        ResponseEntity<Page<ProjectResponseDTO>> response = controller.findAll(pageable, filter);
 
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals(1, response.getBody().getTotalElements());
         assertEquals(responseDTO, response.getBody().getContent().get(0));
-        verify(service, times(1)).findAll(pageable);
+        verify(service, times(1)).findAll(filter, pageable);
     }
 
     @Test
@@ -113,6 +117,22 @@ class ProjectControllerUnitaryTest {
         verify(service, times(1)).update(1L, updateDto);
     }
 
+    @Test
+    @DisplayName("Deve criar projetos em lote e devolver o resultado por item")
+    void createAll_shouldReturnPerItemResults() {
+        BulkResultDTO result = BulkResultDTO.of(List.of(
+                BulkItemResultDTO.ok(0, responseDTO),
+                BulkItemResultDTO.failed(1, null, "Name is required")));
+        when(service.createAll(anyList())).thenReturn(result);
+
+        ResponseEntity<BulkResultDTO> response = controller.createAll(List.of(requestDTO, requestDTO));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().succeeded());
+        assertEquals(1, response.getBody().failed());
+        verify(service, times(1)).createAll(anyList());
+    }
+
     @Test
     @DisplayName("Deve transitar o status de um projeto com sucesso")
     void transition_shouldReturnUpdatedProject() {
@@ -129,6 +149,21 @@ class ProjectControllerUnitaryTest {
         verify(service, times(1)).transition(1L, ProjectStatus.EM_ANDAMENTO);
     }
 
+    @Test
+    @DisplayName("Deve transitar projetos em lote e devolver o resultado por id")
+    void transitionAll_shouldReturnPerIdResults() {
+        BulkResultDTO result = BulkResultDTO.of(List.of(
+                BulkItemResultDTO.ok(0, responseDTO),
+                BulkItemResultDTO.failed(1, 2L, "Project not found")));
+        when(service.transitionAll(List.of(1L, 2L), ProjectStatus.CONCLUIDO)).thenReturn(result);
+
+        ResponseEntity<BulkResultDTO> response = controller.transitionAll(List.of(1L, 2L), ProjectStatus.CONCLUIDO);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2L, response.getBody().items().get(1).id());
+        verify(service, times(1)).transitionAll(List.of(1L, 2L), ProjectStatus.CONCLUIDO);
+    }
+
     @Test
     @DisplayName("Deve apagar um projeto e retornar 204 No Content")
     void delete_shouldReturn204NoContent() {
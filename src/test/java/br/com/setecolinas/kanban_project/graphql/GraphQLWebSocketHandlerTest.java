@@ -0,0 +1,172 @@
+package br.com.setecolinas.kanban_project.graphql;
+
+import br.com.setecolinas.kanban_project.model.Organization;
+import br.com.setecolinas.kanban_project.model.User;
+import br.com.setecolinas.kanban_project.security.ClaimsPrincipal;
+import br.com.setecolinas.kanban_project.security.JwtAuthenticationFilter;
+import br.com.setecolinas.kanban_project.security.JwtClaims;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.graphql.dgs.DgsQueryExecutor;
+import graphql.ExecutionResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes do protocolo graphql-transport-ws")
+class GraphQLWebSocketHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> sent = new ArrayList<>();
+
+    private DgsQueryExecutor executor;
+    private JwtAuthenticationFilter authenticator;
+    private WebSocketSession session;
+    private GraphQLWebSocketHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        executor = mock(DgsQueryExecutor.class);
+        authenticator = mock(JwtAuthenticationFilter.class);
+        session = mock(WebSocketSession.class);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        when(session.isOpen()).thenReturn(true);
+        when(session.getId()).thenReturn("s1");
+        doAnswer(inv -> {
+            WebSocketMessage<?> message = inv.getArgument(0);
+            sent.add(objectMapper.readTree((String) message.getPayload()));
+            return null;
+        }).when(session).sendMessage(any());
+
+        handler = new GraphQLWebSocketHandler(executor, authenticator, objectMapper, Schedulers.immediate(),
+                Duration.ofMinutes(1), 1000, 64 * 1024);
+        handler.afterConnectionEstablished(session);
+    }
+
+    @Test
+    @DisplayName("Deve recusar o connection_init sem token válido")
+    void init_withoutValidToken_shouldClose() throws Exception {
+        when(authenticator.authenticate("bad")).thenReturn(Optional.empty());
+
+        handler.handleMessage(session, json(Map.of("type", "connection_init", "payload", Map.of("Authorization", "Bearer bad"))));
+
+        verify(session).close(argThat((CloseStatus s) -> s.getCode() == 4403));
+        assertTrue(sent.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve recusar subscribe antes do connection_ack")
+    void subscribe_beforeInit_shouldClose() throws Exception {
+        handler.handleMessage(session, json(Map.of("id", "1", "type", "subscribe", "payload", Map.of("query", "subscription { x }"))));
+
+        verify(session).close(argThat((CloseStatus s) -> s.getCode() == 4401));
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    @DisplayName("Deve encaminhar os eventos da subscription como next e encerrar no complete do cliente")
+    void subscribe_shouldStreamNextMessages() throws Exception {
+        User user = User.builder().id(1L).email("a@org.com").tenantId("tenant-a")
+                .organization(Organization.builder().id(1L).tenantId("tenant-a").build()).build();
+        when(authenticator.authenticate("good")).thenReturn(Optional.of(new UsernamePasswordAuthenticationToken(ClaimsPrincipal.of(user), null, List.of())));
+        when(authenticator.isStillValid(any())).thenReturn(true);
+        Sinks.Many<ExecutionResult> events = Sinks.many().multicast().directBestEffort();
+        when(executor.execute(anyString(), anyMap(), anyMap(), isNull(), isNull(), isNull()))
+                .thenReturn(ExecutionResult.newExecutionResult().data(events.asFlux()).build());
+
+        handler.handleMessage(session, json(Map.of("type", "connection_init", "payload", Map.of("Authorization", "Bearer good"))));
+        handler.handleMessage(session, json(Map.of("id", "op1", "type", "subscribe",
+                "payload", Map.of("query", "subscription { projectChanged { projectId } }"))));
+        events.tryEmitNext(ExecutionResult.newExecutionResult().data(Map.of("projectChanged", Map.of("projectId", "7"))).build());
+        handler.handleMessage(session, json(Map.of("id", "op1", "type", "complete")));
+        events.tryEmitNext(ExecutionResult.newExecutionResult().data(Map.of("projectChanged", Map.of("projectId", "8"))).build());
+
+        assertEquals(2, sent.size());
+        assertEquals("connection_ack", sent.get(0).path("type").asText());
+        assertEquals("next", sent.get(1).path("type").asText());
+        assertEquals("op1", sent.get(1).path("id").asText());
+        assertEquals("7", sent.get(1).at("/payload/data/projectChanged/projectId").asText());
+    }
+
+    @Test
+    @DisplayName("Deve encerrar a conexão com 4401 quando o token expira")
+    void init_shouldCloseWhenTokenExpires() throws Exception {
+        UsernamePasswordAuthenticationToken authentication = authentication();
+        authentication.setDetails(new JwtClaims("a@org.com", 1L, "tenant-a", 1L, "MEMBER",
+                Instant.now().minusSeconds(60), Instant.now().plusMillis(50)));
+        when(authenticator.authenticate("good")).thenReturn(Optional.of(authentication));
+
+        handler.handleMessage(session, json(Map.of("type", "connection_init", "payload", Map.of("Authorization", "Bearer good"))));
+
+        assertEquals("connection_ack", sent.get(0).path("type").asText());
+        verify(session, timeout(2000)).close(argThat((CloseStatus s) -> s.getCode() == 4401));
+    }
+
+    @Test
+    @DisplayName("Deve parar de entregar eventos e encerrar com 4401 quando o usuário é revogado")
+    void subscribe_shouldCloseWhenAuthenticationIsRevoked() throws Exception {
+        when(authenticator.authenticate("good")).thenReturn(Optional.of(authentication()));
+        when(authenticator.isStillValid(any())).thenReturn(true, true, false);
+        Sinks.Many<ExecutionResult> events = Sinks.many().multicast().directBestEffort();
+        when(executor.execute(anyString(), anyMap(), anyMap(), isNull(), isNull(), isNull()))
+                .thenReturn(ExecutionResult.newExecutionResult().data(events.asFlux()).build());
+
+        handler.handleMessage(session, json(Map.of("type", "connection_init", "payload", Map.of("Authorization", "Bearer good"))));
+        handler.handleMessage(session, json(Map.of("id", "op1", "type", "subscribe",
+                "payload", Map.of("query", "subscription { projectChanged { projectId } }"))));
+        events.tryEmitNext(ExecutionResult.newExecutionResult().data(Map.of("projectChanged", Map.of("projectId", "7"))).build());
+        events.tryEmitNext(ExecutionResult.newExecutionResult().data(Map.of("projectChanged", Map.of("projectId", "8"))).build());
+
+        assertEquals(2, sent.size());
+        assertEquals("7", sent.get(1).at("/payload/data/projectChanged/projectId").asText());
+        verify(session).close(argThat((CloseStatus s) -> s.getCode() == 4401));
+    }
+
+    @Test
+    @DisplayName("Deve liberar o id de uma subscription que completa de forma síncrona")
+    void subscribe_synchronousCompletion_shouldReleaseId() throws Exception {
+        when(authenticator.authenticate("good")).thenReturn(Optional.of(authentication()));
+        when(authenticator.isStillValid(any())).thenReturn(true);
+        when(executor.execute(anyString(), anyMap(), anyMap(), isNull(), isNull(), isNull()))
+                .thenAnswer(inv -> ExecutionResult.newExecutionResult().data(Flux.<ExecutionResult>empty()).build());
+
+        handler.handleMessage(session, json(Map.of("type", "connection_init", "payload", Map.of("Authorization", "Bearer good"))));
+        handler.handleMessage(session, json(Map.of("id", "op1", "type", "subscribe", "payload", Map.of("query", "subscription { x }"))));
+        handler.handleMessage(session, json(Map.of("id", "op1", "type", "subscribe", "payload", Map.of("query", "subscription { x }"))));
+
+        verify(session, never()).close(any());
+        assertEquals(3, sent.size());
+        assertEquals("complete", sent.get(1).path("type").asText());
+        assertEquals("complete", sent.get(2).path("type").asText());
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication() {
+        User user = User.builder().id(1L).email("a@org.com").tenantId("tenant-a")
+                .organization(Organization.builder().id(1L).tenantId("tenant-a").build()).build();
+        return new UsernamePasswordAuthenticationToken(ClaimsPrincipal.of(user), null, List.of());
+    }
+
+    private TextMessage json(Map<String, Object> message) throws Exception {
+        return new TextMessage(objectMapper.writeValueAsString(message));
+    }
+}
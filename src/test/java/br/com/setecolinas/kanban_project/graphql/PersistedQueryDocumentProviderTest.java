@@ -0,0 +1,112 @@
+package br.com.setecolinas.kanban_project.graphql;
+
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.parser.Parser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes das persisted queries e do cache de documentos GraphQL")
+class PersistedQueryDocumentProviderTest {
+
+    private static final String QUERY = "{ projects { content { id name } } }";
+    private static final String HASH = PersistedQueryDocumentProvider.sha256(QUERY);
+
+    private final List<String> parsed = new ArrayList<>();
+    private final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate = input -> {
+        parsed.add(input.getQuery());
+        return new PreparsedDocumentEntry(Parser.parse(input.getQuery()));
+    };
+
+    @Test
+    @DisplayName("Deve parsear a mesma query uma vez só")
+    void plainQuery_shouldBeCached() {
+        PersistedQueryDocumentProvider provider = provider(Map.of(), false);
+
+        PreparsedDocumentEntry first = document(provider, QUERY, null);
+        PreparsedDocumentEntry second = document(provider, QUERY, null);
+
+        assertFalse(first.hasErrors());
+        assertSame(first.getDocument(), second.getDocument());
+        assertEquals(List.of(QUERY), parsed);
+    }
+
+    @Test
+    @DisplayName("Deve pedir o texto para hash desconhecido e atender só pelo hash depois")
+    void hashOnly_shouldFollowApqHandshake() {
+        PersistedQueryDocumentProvider provider = provider(Map.of(), false);
+
+        PreparsedDocumentEntry miss = document(provider, PersistedQuerySupport.PERSISTED_QUERY_MARKER, HASH);
+        assertEquals(PersistedQueryDocumentProvider.NOT_FOUND, miss.getErrors().get(0).getMessage());
+        assertTrue(parsed.isEmpty());
+
+        assertFalse(document(provider, QUERY, HASH).hasErrors());
+        PreparsedDocumentEntry hit = document(provider, PersistedQuerySupport.PERSISTED_QUERY_MARKER, HASH);
+
+        assertFalse(hit.hasErrors());
+        assertEquals(1, parsed.size());
+    }
+
+    @Test
+    @DisplayName("Deve recusar hash que não corresponde ao texto")
+    void mismatchedHash_shouldBeInvalid() {
+        PersistedQueryDocumentProvider provider = provider(Map.of(), false);
+
+        PreparsedDocumentEntry entry = document(provider, "{ other }", HASH);
+
+        assertEquals(PersistedQueryDocumentProvider.ID_INVALID, entry.getErrors().get(0).getMessage());
+        assertTrue(parsed.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar só queries do manifesto no modo allow-list")
+    void allowListOnly_shouldRejectUnknownQueries() {
+        PersistedQueryDocumentProvider provider = provider(Map.of(HASH, QUERY), true);
+
+        PreparsedDocumentEntry rejected = document(provider, "{ projects { content { id } } }", null);
+        PreparsedDocumentEntry byHash = document(provider, PersistedQuerySupport.PERSISTED_QUERY_MARKER, HASH);
+
+        assertEquals(PersistedQueryDocumentProvider.NOT_ALLOWED, rejected.getErrors().get(0).getMessage());
+        assertFalse(byHash.hasErrors());
+        assertEquals(List.of(QUERY), parsed);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar documentos com erro de validação")
+    void invalidDocument_shouldNotBeCached() {
+        PersistedQueryDocumentProvider provider = new PersistedQueryDocumentProvider(10, Map.of(), false, new SimpleMeterRegistry());
+        Function<ExecutionInput, PreparsedDocumentEntry> failing = input -> {
+            parsed.add(input.getQuery());
+            return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError().message("invalid").build());
+        };
+
+        provider.getDocumentAsync(input(QUERY, null), failing).join();
+        provider.getDocumentAsync(input(QUERY, null), failing).join();
+
+        assertEquals(2, parsed.size());
+    }
+
+    private static PersistedQueryDocumentProvider provider(Map<String, String> allowList, boolean allowListOnly) {
+        return new PersistedQueryDocumentProvider(10, allowList, allowListOnly, new SimpleMeterRegistry());
+    }
+
+    private PreparsedDocumentEntry document(PersistedQueryDocumentProvider provider, String query, String hash) {
+        return provider.getDocumentAsync(input(query, hash), parseAndValidate).join();
+    }
+
+    private static ExecutionInput input(String query, String hash) {
+        Map<String, Object> extensions = hash == null ? Map.of()
+                : Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash));
+        return ExecutionInput.newExecutionInput(query).extensions(extensions).build();
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.setecolinas.kanban_project.graphql;
+
+import br.com.setecolinas.kanban_project.dto.ProjectFilter;
+import br.com.setecolinas.kanban_project.exceptions.BusinessException;
+import br.com.setecolinas.kanban_project.model.enums.ProjectStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do filtro GraphQL de projetos")
+class ProjectDataFetcherTest {
+
+    @Test
+    @DisplayName("Deve converter o ProjectFilterInput no ProjectFilter do service")
+    void toFilter_shouldMapInput() {
+        ProjectFilter filter = ProjectDataFetcher.toFilter(Map.of(
+                "status", List.of("ATRASADO", "EM_ANDAMENTO"),
+                "plannedEndFrom", "2026-10-01",
+                "minDelay", 3,
+                "responsibleId", "7"));
+
+        assertEquals(Set.of(ProjectStatus.ATRASADO, ProjectStatus.EM_ANDAMENTO), filter.status());
+        assertEquals(LocalDate.of(2026, 10, 1), filter.plannedEndFrom());
+        assertEquals(3, filter.minDelay());
+        assertEquals(7L, filter.responsibleId());
+        assertTrue(ProjectDataFetcher.toFilter(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar data ou id inválido como erro de requisição")
+    void toFilter_shouldRejectInvalidValues() {
+        BusinessException date = assertThrows(BusinessException.class,
+                () -> ProjectDataFetcher.toFilter(Map.of("plannedStartTo", "18/10/2026")));
+        assertTrue(date.getMessage().contains("plannedStartTo"));
+
+        assertThrows(BusinessException.class, () -> ProjectDataFetcher.toFilter(Map.of("secretariaId", "abc")));
+    }
+}
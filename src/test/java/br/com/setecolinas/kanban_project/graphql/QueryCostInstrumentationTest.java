@@ -0,0 +1,97 @@
+package br.com.setecolinas.kanban_project.graphql;
+
+import br.com.setecolinas.kanban_project.model.enums.PlanType;
+import com.netflix.graphql.dgs.context.DgsContext;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do limite de custo/profundidade GraphQL")
+class QueryCostInstrumentationTest {
+
+    private static final String SDL = """
+            type Query { projects(size: Int): Page }
+            type Page { content: [Item] }
+            type Item { id: ID, name: String, children: [Item] }
+            """;
+
+    private final AtomicInteger fetches = new AtomicInteger();
+    private SimpleMeterRegistry registry;
+    private GraphQL graphQL;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(SDL),
+                RuntimeWiring.newRuntimeWiring().type("Query", t -> t.dataFetcher("projects", env -> {
+                    fetches.incrementAndGet();
+                    return Map.of("content", List.of(Map.of("id", "1", "name", "A")));
+                })).build());
+        Map<PlanType, Integer> budgets = Map.of(PlanType.FREE, 1000, PlanType.PRO, 5000);
+        QueryCostInstrumentation instrumentation = new QueryCostInstrumentation(Map.of("Query.projects", 5), budgets,
+                4, 20, tenantId -> tenantId.equals("tenant-pro") ? PlanType.PRO : PlanType.FREE, registry);
+        graphQL = GraphQL.newGraphQL(schema).instrumentation(instrumentation).build();
+    }
+
+    @Test
+    @DisplayName("Deve executar consultas dentro do orçamento do plano")
+    void withinBudget_shouldExecute() {
+        ExecutionResult result = execute("{ projects(size: 10) { content { id name } } }", "tenant-a");
+
+        assertTrue(result.getErrors().isEmpty());
+        assertEquals(1, fetches.get());
+        // 5 + 10 × (content = 1)
+        assertEquals(15.0, registry.get("graphql.query.cost").tag("plan", "FREE").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Deve recusar páginas grandes acima do orçamento antes de chamar o data fetcher")
+    void overBudget_shouldRejectBeforeFetching() {
+        ExecutionResult result = execute("{ projects(size: 600) { content { id children { id } } } }", "tenant-a");
+
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).getMessage().contains("FREE plan budget of 1000"));
+        assertEquals(0, fetches.get());
+        assertEquals(1.0, registry.get("graphql.query.rejected").tags("reason", "cost", "plan", "FREE").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve usar o orçamento do plano do tenant")
+    void proPlan_shouldAllowLargerQueries() {
+        ExecutionResult result = execute("{ projects(size: 600) { content { id children { id } } } }", "tenant-pro");
+
+        assertTrue(result.getErrors().isEmpty());
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    @DisplayName("Deve recusar consultas acima da profundidade máxima")
+    void tooDeep_shouldReject() {
+        ExecutionResult result = execute("{ projects { content { children { children { id } } } } }", "tenant-pro");
+
+        assertEquals(1, result.getErrors().size());
+        assertEquals(0, fetches.get());
+        assertEquals(1.0, registry.get("graphql.query.rejected").tags("reason", "depth", "plan", "PRO").counter().count());
+    }
+
+    private ExecutionResult execute(String query, String tenantId) {
+        DgsContext context = new DgsContext(new TenantGraphQLContext(tenantId), null);
+        return graphQL.execute(ExecutionInput.newExecutionInput(query)
+                .graphQLContext(context)
+                .build());
+    }
+}
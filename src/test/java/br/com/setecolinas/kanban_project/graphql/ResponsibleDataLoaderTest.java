@@ -0,0 +1,64 @@
+package br.com.setecolinas.kanban_project.graphql;
+
+import br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO;
+import br.com.setecolinas.kanban_project.repository.ResponsibleRepository;
+import com.netflix.graphql.dgs.context.DgsContext;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.DataLoaderOptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes do DataLoader de responsáveis")
+class ResponsibleDataLoaderTest {
+
+    @Test
+    @DisplayName("Deve resolver os responsáveis de vários projetos num lote só e sem repetir ids")
+    void load_shouldBatchAndCachePerRequest() {
+        ResponsibleRepository repo = mock(ResponsibleRepository.class);
+        when(repo.findDtoByTenantIdAndIdIn(eq("tenant-a"), anyCollection())).thenReturn(List.of(
+                new ResponsibleResponseDTO(1L, "Ana", "ana@a.gov", null, null),
+                new ResponsibleResponseDTO(2L, "Bruno", "bruno@a.gov", null, null)));
+        DataLoader<Long, ResponsibleResponseDTO> loader = newLoader(repo, "tenant-a");
+
+        CompletableFuture<List<ResponsibleResponseDTO>> p1 = loader.loadMany(List.of(1L, 2L));
+        CompletableFuture<List<ResponsibleResponseDTO>> p2 = loader.loadMany(List.of(2L, 3L));
+        loader.dispatchAndJoin();
+        CompletableFuture<ResponsibleResponseDTO> again = loader.load(1L);
+        loader.dispatchAndJoin();
+
+        assertEquals(List.of("Ana", "Bruno"), p1.join().stream().map(ResponsibleResponseDTO::name).toList());
+        assertEquals("Bruno", p2.join().get(0).name());
+        assertNull(p2.join().get(1));
+        assertEquals("Ana", again.join().name());
+        verify(repo, times(1)).findDtoByTenantIdAndIdIn("tenant-a", Set.of(1L, 2L, 3L));
+        verifyNoMoreInteractions(repo);
+    }
+
+    @Test
+    @DisplayName("Não deve consultar sem tenant no contexto")
+    void load_withoutTenant_shouldReturnNothing() {
+        ResponsibleRepository repo = mock(ResponsibleRepository.class);
+        DataLoader<Long, ResponsibleResponseDTO> loader = newLoader(repo, null);
+
+        CompletableFuture<ResponsibleResponseDTO> out = loader.load(1L);
+        loader.dispatchAndJoin();
+
+        assertNull(out.join());
+        verifyNoInteractions(repo);
+    }
+
+    private static DataLoader<Long, ResponsibleResponseDTO> newLoader(ResponsibleRepository repo, String tenantId) {
+        DgsContext context = new DgsContext(new TenantGraphQLContext(tenantId), null);
+        return DataLoaderFactory.newMappedDataLoader(new ResponsibleDataLoader(repo),
+                DataLoaderOptions.newOptions().setBatchLoaderContextProvider(() -> context));
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.setecolinas.kanban_project.graphql;
+
+import br.com.setecolinas.kanban_project.board.ProjectChangedEvent;
+import br.com.setecolinas.kanban_project.service.ResponsibleChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do feed das subscriptions GraphQL")
+class SubscriptionFeedTest {
+
+    @Test
+    @DisplayName("Deve entregar só os eventos do tenant do assinante")
+    void projects_shouldFilterByTenant() {
+        SubscriptionFeed feed = new SubscriptionFeed(new SimpleMeterRegistry(), 16);
+        List<Long> received = new ArrayList<>();
+        Disposable subscription = feed.projects("tenant-a").subscribe(e -> received.add(e.projectId()));
+
+        feed.on(project("tenant-b", 1L));
+        feed.on(project("tenant-a", 2L));
+        feed.on(new ResponsibleChangedEvent("tenant-a", 3L, ResponsibleChangedEvent.Type.DELETED, null));
+        subscription.dispose();
+
+        assertEquals(List.of(2L), received);
+    }
+
+    @Test
+    @DisplayName("Deve descartar os eventos mais antigos de um assinante lento sem afetar os outros")
+    void projects_slowSubscriber_shouldDropOldest() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SubscriptionFeed feed = new SubscriptionFeed(registry, 2);
+        List<Long> fast = new ArrayList<>();
+        List<Long> slow = new ArrayList<>();
+        Disposable fastSubscription = feed.projects("tenant-a").subscribe(e -> fast.add(e.projectId()));
+        BaseSubscriber<ProjectChangedEvent> slowSubscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                // Sem demanda até o teste pedir
+            }
+
+            @Override
+            protected void hookOnNext(ProjectChangedEvent e) {
+                slow.add(e.projectId());
+            }
+        };
+        feed.projects("tenant-a").subscribe(slowSubscriber);
+
+        for (long id = 1; id <= 5; id++) feed.on(project("tenant-a", id));
+        slowSubscriber.request(5);
+        slowSubscriber.dispose();
+        fastSubscription.dispose();
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), fast);
+        assertEquals(List.of(4L, 5L), slow);
+        assertEquals(3.0, registry.get("graphql.subscriptions.dropped").counter().count());
+    }
+
+    private static ProjectChangedEvent project(String tenantId, Long id) {
+        return new ProjectChangedEvent(tenantId, id, ProjectChangedEvent.Type.DELETED, null);
+    }
+}
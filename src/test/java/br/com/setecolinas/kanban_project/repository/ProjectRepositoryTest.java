@@ -0,0 +1,187 @@
+package br.com.setecolinas.kanban_project.repository;
+
+import br.com.setecolinas.kanban_project.cache.ProjectCache;
+import br.com.setecolinas.kanban_project.cache.TenantCacheEvictor;
+import br.com.setecolinas.kanban_project.cache.TenantRowCounter;
+import br.com.setecolinas.kanban_project.dto.CountMode;
+import br.com.setecolinas.kanban_project.dto.CursorPage;
+import br.com.setecolinas.kanban_project.dto.ProjectResponseDTO;
+import br.com.setecolinas.kanban_project.exceptions.BusinessException;
+import br.com.setecolinas.kanban_project.model.Organization;
+import br.com.setecolinas.kanban_project.model.Project;
+import br.com.setecolinas.kanban_project.model.Responsible;
+import br.com.setecolinas.kanban_project.model.User;
+import br.com.setecolinas.kanban_project.security.ClaimsPrincipal;
+import br.com.setecolinas.kanban_project.service.ProjectService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("Testes de consultas do ProjectRepository")
+class ProjectRepositoryTest {
+
+    private static final String TENANT = "tenant-a";
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ProjectRepository repo;
+
+    @Autowired
+    private ResponsibleRepository respRepo;
+
+    @Autowired
+    private OrganizationRepository orgRepo;
+
+    private ProjectService service;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Organization org = em.merge(Organization.builder().name("Org A").slug("org-a").tenantId(TENANT).build());
+        Organization other = em.merge(Organization.builder().name("Org B").slug("org-b").tenantId("tenant-b").build());
+
+        for (int i = 0; i < 10; i++) {
+            Project p = new Project("Projeto " + i);
+            p.setTenantId(TENANT);
+            p.setOrganization(org);
+            for (int j = 0; j < 3; j++) {
+                p.getResponsibles().add(responsible("r" + i + "-" + j, TENANT, org));
+            }
+            em.persist(p);
+        }
+        Project foreign = new Project("Projeto de outro tenant");
+        foreign.setTenantId("tenant-b");
+        foreign.setOrganization(other);
+        foreign.getResponsibles().add(responsible("rb", "tenant-b", other));
+        em.persist(foreign);
+
+        em.flush();
+        em.clear();
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+                ProjectCache.PROJECT, ProjectCache.PAGE_IDS, TenantRowCounter.CACHE);
+        service = new ProjectService(repo, respRepo, orgRepo,
+                new ProjectCache(cacheManager, new TenantCacheEvictor(cacheManager)), new TenantRowCounter(cacheManager),
+                event -> { });
+
+        User user = User.builder().id(1L).email("admin@org-a.com").tenantId(TENANT).organization(org).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(ClaimsPrincipal.of(user), null, List.of()));
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve montar a página com responsáveis em número constante de consultas")
+    void findAll_shouldNotIssueQueryPerProject() {
+        Page<ProjectResponseDTO> page = service.findAll(PageRequest.of(0, 5));
+
+        // página + count + pares (projeto, responsável)
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(5, page.getContent().size());
+        assertEquals(10, page.getTotalElements());
+        page.forEach(dto -> assertEquals(3, dto.responsibleIds().size()));
+    }
+
+    @Test
+    @DisplayName("Deve listar sem COUNT no modo NONE")
+    void findAll_countNone_shouldSkipCount() {
+        Slice<ProjectResponseDTO> slice = service.findAll(PageRequest.of(0, 4), CountMode.NONE);
+
+        // linhas (size + 1) + pares (projeto, responsável)
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(4, slice.getNumberOfElements());
+        assertTrue(slice.hasNext());
+        assertFalse(slice instanceof Page);
+    }
+
+    @Test
+    @DisplayName("Deve contar uma vez e reaproveitar o total no modo APPROXIMATE")
+    void findAll_countApproximate_shouldReuseCachedCount() {
+        Page<?> first = (Page<?>) service.findAll(PageRequest.of(0, 4), CountMode.APPROXIMATE);
+        assertEquals(3, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        Page<?> second = (Page<?>) service.findAll(PageRequest.of(1, 4), CountMode.APPROXIMATE);
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(10, first.getTotalElements());
+        assertEquals(10, second.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todas as páginas por cursor sem consulta de COUNT")
+    void findAfter_shouldWalkKeysetWithoutCount() {
+        List<String> names = new ArrayList<>();
+        String after = null;
+        int pages = 0;
+        CursorPage<ProjectResponseDTO> page;
+        do {
+            statistics.clear();
+            page = service.findAfter(after, 4);
+            // linhas + pares (projeto, responsável)
+            assertEquals(2, statistics.getPrepareStatementCount());
+            page.content().forEach(dto -> names.add(dto.name()));
+            after = page.nextCursor();
+            pages++;
+        } while (page.hasNext());
+
+        assertEquals(3, pages);
+        assertEquals(IntStream.range(0, 10).mapToObj(i -> "Projeto " + i).toList(), names);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido")
+    void findAfter_shouldRejectInvalidCursor() {
+        assertThrows(BusinessException.class, () -> service.findAfter("não-é-cursor", 4));
+    }
+
+    @Test
+    @DisplayName("Deve carregar os responsáveis de vários projetos em uma única consulta")
+    void findResponsibleLinks_shouldBatchAndRespectTenant() {
+        List<Long> ids = em.createQuery("select p.id from Project p", Long.class).getResultList();
+
+        List<ProjectRepository.ResponsibleLink> links = repo.findResponsibleLinks(ids, TENANT);
+
+        // ids + pares; o responsável do tenant-b fica de fora
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(30, links.size());
+    }
+
+    private Responsible responsible(String key, String tenantId, Organization org) {
+        Responsible r = new Responsible("Responsável " + key, key + "@example.com", "Analista");
+        r.setTenantId(tenantId);
+        r.setOrganization(org);
+        em.persist(r);
+        return r;
+    }
+}
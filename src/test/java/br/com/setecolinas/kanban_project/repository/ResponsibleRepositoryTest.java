@@ -0,0 +1,126 @@
+package br.com.setecolinas.kanban_project.repository;
+
+import br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO;
+import br.com.setecolinas.kanban_project.model.Organization;
+import br.com.setecolinas.kanban_project.model.Responsible;
+import br.com.setecolinas.kanban_project.model.Secretaria;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("Testes de projeções do ResponsibleRepository")
+class ResponsibleRepositoryTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ResponsibleRepository repo;
+
+    private Statistics statistics;
+    private Long secretariaId;
+
+    @BeforeEach
+    void setUp() {
+        Organization org = em.merge(Organization.builder().name("Org A").slug("org-a").tenantId("tenant-a").build());
+        Organization other = em.merge(Organization.builder().name("Org B").slug("org-b").tenantId("tenant-b").build());
+
+        Secretaria sec = new Secretaria("Saúde", "Secretaria de Saúde");
+        sec.setTenantId("tenant-a");
+        sec.setOrganization(org);
+        em.persist(sec);
+        secretariaId = sec.getId();
+
+        persist("Ana Souza", "ana@a.gov", "tenant-a", org, sec);
+        persist("Bruno Lima", "bruno@a.gov", "tenant-a", org, null);
+        persist("Ana Pereira", "ana@b.gov", "tenant-b", other, null);
+
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Deve listar direto no DTO sem carregar entidades")
+    void findDtoByTenantId_shouldNotHydrateEntities() {
+        Page<ResponsibleResponseDTO> page = repo.findDtoByTenantId("tenant-a", PageRequest.of(0, 1, Sort.by("name")));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals(new ResponsibleResponseDTO(page.getContent().get(0).id(), "Ana Souza", "ana@a.gov", "Analista", secretariaId),
+                page.getContent().get(0));
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Deve manter responsáveis sem secretaria na listagem")
+    void findDtoByTenantId_shouldKeepNullSecretaria() {
+        Page<ResponsibleResponseDTO> page = repo.findDtoByTenantId("tenant-a", PageRequest.of(0, 10, Sort.by("name")));
+
+        assertEquals(2, page.getContent().size());
+        assertNull(page.getContent().get(1).secId());
+    }
+
+    @Test
+    @DisplayName("Deve buscar por nome ou e-mail apenas dentro do tenant")
+    void searchDtoByTenantId_shouldNotLeakAcrossTenants() {
+        Page<ResponsibleResponseDTO> byName = repo.searchDtoByTenantId("tenant-a", "ANA", PageRequest.of(0, 10));
+        Page<ResponsibleResponseDTO> byEmail = repo.searchDtoByTenantId("tenant-a", "@b.gov", PageRequest.of(0, 10));
+
+        assertEquals(1, byName.getTotalElements());
+        assertEquals("ana@a.gov", byName.getContent().get(0).email());
+        assertEquals(0, byEmail.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Deve continuar a listagem por keyset a partir do cursor")
+    void findKeysetAfter_shouldResumeAfterCursor() {
+        List<ResponsibleResponseDTO> first = repo.findKeysetFirst("tenant-a", null, PageRequest.of(0, 1));
+        ResponsibleResponseDTO last = first.get(0);
+
+        List<ResponsibleResponseDTO> next = repo.findKeysetAfter("tenant-a", null, last.name(), last.id(), PageRequest.of(0, 10));
+        List<ResponsibleResponseDTO> filtered = repo.findKeysetFirst("tenant-a", "%bruno%", PageRequest.of(0, 10));
+
+        assertEquals("Ana Souza", last.name());
+        assertEquals(List.of("Bruno Lima"), next.stream().map(ResponsibleResponseDTO::name).toList());
+        assertEquals(1, filtered.size());
+    }
+
+    @Test
+    @DisplayName("Deve buscar um lote de ids numa consulta só, ignorando ids de outro tenant")
+    void findDtoByTenantIdAndIdIn_shouldScopeToTenant() {
+        List<Long> ids = em.createQuery("select r.id from Responsible r order by r.id", Long.class).getResultList();
+        statistics.clear();
+
+        List<ResponsibleResponseDTO> found = repo.findDtoByTenantIdAndIdIn("tenant-a", ids);
+
+        assertEquals(List.of("Ana Souza", "Bruno Lima"), found.stream().map(ResponsibleResponseDTO::name).sorted().toList());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private void persist(String name, String email, String tenantId, Organization org, Secretaria sec) {
+        Responsible r = new Responsible(name, email, "Analista");
+        r.setTenantId(tenantId);
+        r.setOrganization(org);
+        r.setSecretaria(sec);
+        em.persist(r);
+    }
+}
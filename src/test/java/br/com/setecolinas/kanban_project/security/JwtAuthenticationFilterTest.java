@@ -0,0 +1,136 @@
+package br.com.setecolinas.kanban_project.security;
+
+import br.com.setecolinas.kanban_project.model.enums.UserRole;
+import br.com.setecolinas.kanban_project.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JwtAuthenticationFilter Tests")
+class JwtAuthenticationFilterTest {
+
+    private static final ClaimsPrincipal PRINCIPAL =
+            new ClaimsPrincipal(42L, "joao@example.com", "tenant-123", 7L, UserRole.MEMBER);
+
+    private JwtTokenProvider tokenProvider;
+    private PrincipalCache principalCache;
+    private TokenDenyList tokenDenyList;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = mock(JwtTokenProvider.class);
+        principalCache = mock(PrincipalCache.class);
+        tokenDenyList = new TokenDenyList(86_400_000L, 100);
+        filter = new JwtAuthenticationFilter(tokenProvider, principalCache, tokenDenyList);
+    }
+
+    @Test
+    @DisplayName("Should keep the parsed claims as authentication details")
+    void testAuthenticateKeepsClaims() {
+        JwtClaims claims = claims(Instant.now().minusSeconds(60), Instant.now().plusSeconds(3600));
+        when(tokenProvider.parseClaims("token")).thenReturn(Optional.of(claims));
+        when(principalCache.resolve("joao@example.com", "tenant-123")).thenReturn(Optional.of(PRINCIPAL));
+
+        Optional<UsernamePasswordAuthenticationToken> authentication = filter.authenticate("token");
+
+        assertThat(authentication).isPresent();
+        assertThat(authentication.get().getPrincipal()).isEqualTo(PRINCIPAL);
+        assertThat(authentication.get().getDetails()).isEqualTo(claims);
+    }
+
+    @Test
+    @DisplayName("Should build the principal from the claims alone in stateless mode")
+    void testStatelessSkipsUserRepository() {
+        UserRepository userRepository = mock(UserRepository.class);
+        filter = new JwtAuthenticationFilter(tokenProvider,
+                new PrincipalCache(userRepository, new SimpleMeterRegistry(), 100, 300), tokenDenyList);
+        ReflectionTestUtils.setField(filter, "stateless", true);
+        JwtClaims claims = new JwtClaims("joao@example.com", 42L, "tenant-123", 7L, "ORG_ADMIN",
+                Instant.now().minusSeconds(60), Instant.now().plusSeconds(3600));
+        when(tokenProvider.parseClaims("token")).thenReturn(Optional.of(claims));
+
+        Optional<UsernamePasswordAuthenticationToken> authentication = filter.authenticate("token");
+
+        assertThat(authentication).isPresent();
+        assertThat(authentication.get().getPrincipal())
+                .isEqualTo(new ClaimsPrincipal(42L, "joao@example.com", "tenant-123", 7L, UserRole.ORG_ADMIN));
+        assertThat(authentication.get().getAuthorities()).extracting("authority").containsExactly("ROLE_ORG_ADMIN");
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a revoked token in stateless mode")
+    void testStatelessRejectsRevokedToken() {
+        ReflectionTestUtils.setField(filter, "stateless", true);
+        when(tokenProvider.parseClaims("token"))
+                .thenReturn(Optional.of(claims(Instant.now().minusSeconds(60), Instant.now().plusSeconds(3600))));
+        tokenDenyList.revoke(42L);
+
+        assertThat(filter.authenticate("token")).isEmpty();
+        verifyNoInteractions(principalCache);
+    }
+
+    @Test
+    @DisplayName("Should invalidate a long-lived authentication once the token expires")
+    void testIsStillValidExpiredToken() {
+        when(principalCache.resolve("joao@example.com", "tenant-123")).thenReturn(Optional.of(PRINCIPAL));
+
+        assertThat(filter.isStillValid(authentication(claims(Instant.now().minusSeconds(60), Instant.now().plusSeconds(60))))).isTrue();
+        assertThat(filter.isStillValid(authentication(claims(Instant.now().minusSeconds(120), Instant.now().minusSeconds(1))))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should invalidate a long-lived authentication once the user is deactivated")
+    void testIsStillValidDeactivatedUser() {
+        Authentication authentication = authentication(claims(Instant.now().minusSeconds(60), Instant.now().plusSeconds(3600)));
+        when(principalCache.resolve("joao@example.com", "tenant-123"))
+                .thenReturn(Optional.of(PRINCIPAL))
+                .thenReturn(Optional.empty());
+
+        assertThat(filter.isStillValid(authentication)).isTrue();
+        assertThat(filter.isStillValid(authentication)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should invalidate a long-lived stateless authentication once the user is revoked")
+    void testIsStillValidRevokedStateless() {
+        ReflectionTestUtils.setField(filter, "stateless", true);
+        Authentication authentication = authentication(claims(Instant.now().minusSeconds(60), Instant.now().plusSeconds(3600)));
+
+        assertThat(filter.isStillValid(authentication)).isTrue();
+        tokenDenyList.revoke(42L);
+
+        assertThat(filter.isStillValid(authentication)).isFalse();
+        verifyNoInteractions(principalCache);
+    }
+
+    @Test
+    @DisplayName("Should reject authentications without JWT claims")
+    void testIsStillValidWithoutClaims() {
+        assertThat(filter.isStillValid(null)).isFalse();
+        assertThat(filter.isStillValid(new UsernamePasswordAuthenticationToken(PRINCIPAL, null, List.of()))).isFalse();
+    }
+
+    private static JwtClaims claims(Instant issuedAt, Instant expiresAt) {
+        return new JwtClaims("joao@example.com", 42L, "tenant-123", 7L, "MEMBER", issuedAt, expiresAt);
+    }
+
+    private static Authentication authentication(JwtClaims claims) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(PRINCIPAL, null, PRINCIPAL.getAuthorities());
+        authentication.setDetails(claims);
+        return authentication;
+    }
+}
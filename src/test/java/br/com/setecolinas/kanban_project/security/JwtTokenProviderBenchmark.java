@@ -0,0 +1,73 @@
+package br.com.setecolinas.kanban_project.security;
+
+import br.com.setecolinas.kanban_project.model.Organization;
+import br.com.setecolinas.kanban_project.model.User;
+import br.com.setecolinas.kanban_project.model.enums.UserRole;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo por requisição da validação do JWT no {@link JwtAuthenticationFilter}.
+ * <p>
+ * {@code legacyThreeParses} reproduz o fluxo anterior (validateToken + getUsernameFromToken +
+ * getTenantIdFromToken, cada um criando chave e parser); {@code singleParse} usa {@link JwtTokenProvider#parseClaims}.
+ * <p>
+ * Executar com: {@code mvn test-compile} e depois rodar o {@code main} desta classe pela IDE
+ * (ou {@code java -cp target/test-classes:<classpath de teste> ...JwtTokenProviderBenchmark}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-with-at-least-32-characters";
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(SECRET, 86_400_000L);
+        Organization organization = Organization.builder().id(1L).tenantId("tenant-bench").build();
+        User user = User.builder()
+                .id(1L)
+                .email("bench@example.com")
+                .organization(organization)
+                .tenantId("tenant-bench")
+                .role(UserRole.MEMBER)
+                .build();
+        token = provider.generateToken(user);
+    }
+
+    @Benchmark
+    public void legacyThreeParses(Blackhole bh) {
+        for (int i = 0; i < 3; i++) {
+            bh.consume(Jwts.parserBuilder()
+                    .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody());
+        }
+    }
+
+    @Benchmark
+    public void singleParse(Blackhole bh) {
+        bh.consume(provider.parseClaims(token));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtTokenProviderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
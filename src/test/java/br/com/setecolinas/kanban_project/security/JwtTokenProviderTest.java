@@ -0,0 +1,68 @@
+package br.com.setecolinas.kanban_project.security;
+
+import br.com.setecolinas.kanban_project.model.Organization;
+import br.com.setecolinas.kanban_project.model.User;
+import br.com.setecolinas.kanban_project.model.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtTokenProvider Tests")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-with-at-least-32-characters";
+
+    private JwtTokenProvider provider;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        provider = new JwtTokenProvider(SECRET, 86_400_000L);
+        Organization org = Organization.builder().id(7L).tenantId("tenant-123").build();
+        user = User.builder()
+                .id(42L)
+                .email("joao@example.com")
+                .organization(org)
+                .tenantId("tenant-123")
+                .role(UserRole.ORG_ADMIN)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should extract all claims with a single parse")
+    void testParseClaims() {
+        String token = provider.generateToken(user);
+
+        Optional<JwtClaims> claims = provider.parseClaims(token);
+
+        assertThat(claims).isPresent();
+        assertThat(claims.get().subject()).isEqualTo("joao@example.com");
+        assertThat(claims.get().userId()).isEqualTo(42L);
+        assertThat(claims.get().tenantId()).isEqualTo("tenant-123");
+        assertThat(claims.get().organizationId()).isEqualTo(7L);
+        assertThat(claims.get().role()).isEqualTo("ORG_ADMIN");
+        assertThat(claims.get().expiresAt()).isEqualTo(provider.getExpirationDate(token));
+    }
+
+    @Test
+    @DisplayName("Should reject token signed with another key")
+    void testParseClaimsInvalidSignature() {
+        String token = new JwtTokenProvider("another-secret-key-with-at-least-32-chars", 86_400_000L)
+                .generateToken(user);
+
+        assertThat(provider.parseClaims(token)).isEmpty();
+        assertThat(provider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject expired token")
+    void testParseClaimsExpired() {
+        String token = new JwtTokenProvider(SECRET, -1_000L).generateToken(user);
+
+        assertThat(provider.parseClaims(token)).isEmpty();
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.setecolinas.kanban_project.security;
+
+import br.com.setecolinas.kanban_project.model.User;
+import br.com.setecolinas.kanban_project.model.enums.UserRole;
+import br.com.setecolinas.kanban_project.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PrincipalCache Tests")
+class PrincipalCacheTest {
+
+    private UserRepository userRepository;
+    private final AtomicLong nanos = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmailAndTenantId(anyString(), anyString()))
+                .thenAnswer(inv -> Optional.of(user(inv.getArgument(0), inv.getArgument(1), true)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should key principals by email and tenant")
+    void testKeyedByEmailAndTenant() {
+        PrincipalCache cache = cache(100, 300);
+
+        ClaimsPrincipal tenantA = cache.resolve("joao@example.com", "tenant-a").orElseThrow();
+        ClaimsPrincipal tenantB = cache.resolve("joao@example.com", "tenant-b").orElseThrow();
+        cache.resolve("joao@example.com", "tenant-a");
+
+        assertThat(tenantA.tenantId()).isEqualTo("tenant-a");
+        assertThat(tenantB.tenantId()).isEqualTo("tenant-b");
+        verify(userRepository, times(1)).findByEmailAndTenantId("joao@example.com", "tenant-a");
+        verify(userRepository, times(1)).findByEmailAndTenantId("joao@example.com", "tenant-b");
+
+        cache.evict("joao@example.com", "tenant-a");
+        cache.resolve("joao@example.com", "tenant-a");
+        cache.resolve("joao@example.com", "tenant-b");
+
+        verify(userRepository, times(2)).findByEmailAndTenantId("joao@example.com", "tenant-a");
+        verify(userRepository, times(1)).findByEmailAndTenantId("joao@example.com", "tenant-b");
+    }
+
+    @Test
+    @DisplayName("Should not cache missing or inactive users")
+    void testInactiveUserNotCached() {
+        when(userRepository.findByEmailAndTenantId("inativo@example.com", "tenant-a"))
+                .thenReturn(Optional.of(user("inativo@example.com", "tenant-a", false)));
+        PrincipalCache cache = cache(100, 300);
+
+        assertThat(cache.resolve("inativo@example.com", "tenant-a")).isEmpty();
+        assertThat(cache.resolve("inativo@example.com", "tenant-a")).isEmpty();
+
+        verify(userRepository, times(2)).findByEmailAndTenantId("inativo@example.com", "tenant-a");
+    }
+
+    @Test
+    @DisplayName("Should reload a principal after the TTL")
+    void testExpiresAfterTtl() {
+        PrincipalCache cache = cache(100, 300);
+
+        cache.resolve("joao@example.com", "tenant-a");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(299));
+        cache.resolve("joao@example.com", "tenant-a");
+        verify(userRepository, times(1)).findByEmailAndTenantId("joao@example.com", "tenant-a");
+
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        cache.resolve("joao@example.com", "tenant-a");
+        verify(userRepository, times(2)).findByEmailAndTenantId("joao@example.com", "tenant-a");
+    }
+
+    @Test
+    @DisplayName("Should keep at most max-size principals")
+    void testBoundedBySize() {
+        PrincipalCache cache = cache(2, 300);
+
+        for (int i = 0; i < 10; i++) {
+            cache.resolve("user" + i + "@example.com", "tenant-a");
+        }
+        for (int i = 0; i < 10; i++) {
+            cache.resolve("user" + i + "@example.com", "tenant-a");
+        }
+
+        // Com no máximo 2 entradas, ao menos 8 dos 10 usuários voltam ao banco na segunda volta
+        verify(userRepository, atLeast(18)).findByEmailAndTenantId(anyString(), eq("tenant-a"));
+    }
+
+    @Test
+    @DisplayName("Should evict again after commit, dropping a principal reloaded mid-transaction")
+    void testEvictRepeatedAfterCommit() {
+        PrincipalCache cache = cache(100, 300);
+        cache.resolve("joao@example.com", "tenant-a");
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict("joao@example.com", "tenant-a");
+        // Requisição concorrente recarrega o estado ainda não commitado
+        cache.resolve("joao@example.com", "tenant-a");
+        cache.resolve("joao@example.com", "tenant-a");
+        verify(userRepository, times(2)).findByEmailAndTenantId("joao@example.com", "tenant-a");
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        cache.resolve("joao@example.com", "tenant-a");
+
+        verify(userRepository, times(3)).findByEmailAndTenantId("joao@example.com", "tenant-a");
+    }
+
+    private PrincipalCache cache(long maxSize, long ttlSeconds) {
+        return new PrincipalCache(userRepository, new SimpleMeterRegistry(), maxSize, ttlSeconds, nanos::get, Runnable::run);
+    }
+
+    private static User user(String email, String tenantId, boolean active) {
+        return User.builder()
+                .id(42L)
+                .email(email)
+                .tenantId(tenantId)
+                .role(UserRole.MEMBER)
+                .active(active)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.setecolinas.kanban_project.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenDenyList Tests")
+class TokenDenyListTest {
+
+    private static final Instant REVOKED_AT = Instant.parse("2026-10-18T12:00:00.750Z");
+
+    private TokenDenyList denyList;
+
+    @BeforeEach
+    void setUp() {
+        denyList = new TokenDenyList(86_400_000L, 100, Clock.fixed(REVOKED_AT, ZoneOffset.UTC));
+        denyList.revoke(42L);
+    }
+
+    @Test
+    @DisplayName("Should reject a token issued before the revocation")
+    void testIssuedBeforeRevocation() {
+        assertThat(denyList.isRevoked(claims(42L, Instant.parse("2026-10-18T11:59:59Z")))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should accept a token issued in the same second as the revocation")
+    void testIssuedInSameSecond() {
+        // "iat" não tem fração de segundo: o token emitido às 12:00:00.900 chega como 12:00:00
+        assertThat(denyList.isRevoked(claims(42L, Instant.parse("2026-10-18T12:00:00Z")))).isFalse();
+        assertThat(denyList.isRevoked(claims(42L, Instant.parse("2026-10-18T12:00:01Z")))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject a token of a revoked user without iat")
+    void testMissingIssuedAt() {
+        assertThat(denyList.isRevoked(claims(42L, null))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should accept tokens of users that were not revoked")
+    void testOtherUsers() {
+        assertThat(denyList.isRevoked(claims(7L, Instant.parse("2026-10-18T11:59:59Z")))).isFalse();
+        assertThat(denyList.isRevoked(claims(null, null))).isFalse();
+    }
+
+    private static JwtClaims claims(Long userId, Instant issuedAt) {
+        return new JwtClaims("joao@example.com", userId, "tenant-123", 7L, "MEMBER", issuedAt,
+                Instant.parse("2026-10-19T12:00:00Z"));
+    }
+}
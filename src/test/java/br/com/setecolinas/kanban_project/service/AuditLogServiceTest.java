@@ -0,0 +1,67 @@
+package br.com.setecolinas.kanban_project.service;
+
+import br.com.setecolinas.kanban_project.audit.AuditEvent;
+import br.com.setecolinas.kanban_project.audit.AuditLogExporter;
+import br.com.setecolinas.kanban_project.audit.AuditLogWriter;
+import br.com.setecolinas.kanban_project.repository.AuditLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes para AuditLogService")
+class AuditLogServiceTest {
+
+    private final AuditLogWriter writer = mock(AuditLogWriter.class);
+    private final AuditLogService service =
+            new AuditLogService(mock(AuditLogRepository.class), writer, mock(AuditLogExporter.class));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("Deve enfileirar direto quando não há transação ativa")
+    void log_withoutTransaction_shouldEnqueueImmediately() {
+        service.log("tenant-a", "CREATE", "Project", 1L, "criado");
+
+        verify(writer).enqueue(any(AuditEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve enfileirar só após o commit da transação do chamador")
+    void log_insideTransaction_shouldEnqueueAfterCommit() {
+        beginTransaction();
+
+        service.log("tenant-a", "CREATE", "Project", 1L, "criado");
+        verify(writer, never()).enqueue(any());
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        verify(writer).enqueue(any(AuditEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve descartar o evento quando a transação é desfeita")
+    void log_insideRolledBackTransaction_shouldNotEnqueue() {
+        beginTransaction();
+
+        service.log("tenant-a", "CREATE", "Project", 1L, "criado");
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(writer, never()).enqueue(any());
+    }
+
+    private static void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+}
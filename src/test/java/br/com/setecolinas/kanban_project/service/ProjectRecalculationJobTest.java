@@ -0,0 +1,141 @@
+package br.com.setecolinas.kanban_project.service;
+
+import br.com.setecolinas.kanban_project.board.ProjectChangedEvent;
+import br.com.setecolinas.kanban_project.cache.ProjectCache;
+import br.com.setecolinas.kanban_project.dto.ProjectResponseDTO;
+import br.com.setecolinas.kanban_project.model.Organization;
+import br.com.setecolinas.kanban_project.model.Project;
+import br.com.setecolinas.kanban_project.model.enums.ProjectStatus;
+import br.com.setecolinas.kanban_project.repository.OrganizationRepository;
+import br.com.setecolinas.kanban_project.repository.ProjectRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// Sem a transação do teste: o job grava em threads próprias e precisa enxergar os dados
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Testes do recálculo diário de projetos")
+class ProjectRecalculationJobTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProjectRepository repo;
+
+    @Autowired
+    private OrganizationRepository orgRepo;
+
+    private ProjectCache projectCache;
+    private final List<ProjectChangedEvent> events = new CopyOnWriteArrayList<>();
+    private ProjectRecalculationJob job;
+    private Organization orgA;
+    private Organization orgB;
+
+    @BeforeEach
+    void setUp() {
+        projectCache = mock(ProjectCache.class);
+        ProjectService projectService = mock(ProjectService.class);
+        when(projectService.findCards(anyString(), any())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(1);
+            return ids.stream()
+                    .map(id -> new ProjectResponseDTO(id, "Projeto", null, null, null, null, null, 0, 0.0, Set.of()))
+                    .toList();
+        });
+        job = new ProjectRecalculationJob(jdbcTemplate, transactionManager, projectCache, projectService,
+                event -> events.add((ProjectChangedEvent) event), new SimpleMeterRegistry(), true, 2, 2);
+        orgA = orgRepo.save(Organization.builder().name("Org A").slug("org-a").tenantId("tenant-a").build());
+        orgB = orgRepo.save(Organization.builder().name("Org B").slug("org-b").tenantId("tenant-b").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        repo.deleteAll();
+        orgRepo.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve atualizar só os projetos afetados pela virada do dia, em todos os tenants")
+    void recalculate_updatesOnlyStaleProjects() throws Exception {
+        // Calculados "ontem": atraso cresce, % restante cai, status vira ATRASADO
+        Project late = project(orgA, TODAY.minusDays(20), TODAY.minusDays(5), TODAY.minusDays(20), null, TODAY.minusDays(1));
+        Project running = project(orgA, TODAY.minusDays(10), TODAY.plusDays(10), TODAY.minusDays(10), null, TODAY.minusDays(1));
+        Project startsLate = project(orgB, TODAY.minusDays(1), TODAY.plusDays(30), null, null, TODAY.minusDays(1));
+        // Concluído há tempo: fora dos predicados
+        Project done = project(orgB, TODAY.minusDays(90), TODAY.minusDays(60), TODAY.minusDays(90), TODAY.minusDays(61), TODAY);
+
+        long updated = job.recalculate(TODAY);
+
+        assertEquals(3, updated);
+        Project l = repo.findById(late.getId()).orElseThrow();
+        assertEquals(5, l.getDaysDelay());
+        assertEquals(ProjectStatus.ATRASADO, l.getStatus());
+        assertEquals(50.0, repo.findById(running.getId()).orElseThrow().getPercentTimeRemaining());
+        assertEquals(ProjectStatus.ATRASADO, repo.findById(startsLate.getId()).orElseThrow().getStatus());
+        assertEquals(ProjectStatus.CONCLUIDO, repo.findById(done.getId()).orElseThrow().getStatus());
+        verify(projectCache).evict(eq("tenant-a"), anyCollection());
+        verify(projectCache).evict(eq("tenant-b"), anyCollection());
+        // Quadro, SSE e subscriptions ficam sabendo pelo mesmo evento do ProjectService
+        assertThat(events).extracting(ProjectChangedEvent::projectId)
+                .containsExactlyInAnyOrder(late.getId(), running.getId(), startsLate.getId());
+        assertThat(events).allMatch(e -> e.type() == ProjectChangedEvent.Type.UPDATED);
+        events.clear();
+
+        assertEquals(0, job.recalculate(TODAY), "segunda execução no mesmo dia não deve gravar nada");
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve recalcular a partir das datas gravadas, mesmo alteradas fora do JPA")
+    void recalculateTenant_usesStoredDates() {
+        Project p = project(orgA, TODAY.minusDays(20), TODAY.minusDays(5), TODAY.minusDays(20), null, TODAY.minusDays(1));
+        jdbcTemplate.update("update project set planned_end = ? where id = ?", TODAY.minusDays(2), p.getId());
+
+        job.recalculateTenant("tenant-a", TODAY);
+
+        assertEquals(2, repo.findById(p.getId()).orElseThrow().getDaysDelay());
+    }
+
+    private Project project(Organization org, LocalDate plannedStart, LocalDate plannedEnd,
+                            LocalDate actualStart, LocalDate actualEnd, LocalDate calculatedOn) {
+        Project p = new Project("Projeto");
+        p.setTenantId(org.getTenantId());
+        p.setOrganization(org);
+        p.setPlannedStart(plannedStart);
+        p.setPlannedEnd(plannedEnd);
+        p.setActualStart(actualStart);
+        p.setActualEnd(actualEnd);
+        ProjectService.recalc(p, calculatedOn);
+        return repo.save(p);
+    }
+}
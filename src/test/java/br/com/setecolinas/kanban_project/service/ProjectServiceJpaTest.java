@@ -0,0 +1,343 @@
+package br.com.setecolinas.kanban_project.service;
+
+import br.com.setecolinas.kanban_project.cache.ProjectCache;
+import br.com.setecolinas.kanban_project.cache.TenantCacheEvictor;
+import br.com.setecolinas.kanban_project.cache.TenantRowCounter;
+import br.com.setecolinas.kanban_project.dto.BulkResultDTO;
+import br.com.setecolinas.kanban_project.dto.CountMode;
+import br.com.setecolinas.kanban_project.dto.ProjectFilter;
+import br.com.setecolinas.kanban_project.dto.ProjectRequestDTO;
+import br.com.setecolinas.kanban_project.dto.ProjectResponseDTO;
+import br.com.setecolinas.kanban_project.exceptions.BusinessException;
+import br.com.setecolinas.kanban_project.model.Organization;
+import br.com.setecolinas.kanban_project.model.Project;
+import br.com.setecolinas.kanban_project.model.Responsible;
+import br.com.setecolinas.kanban_project.model.Secretaria;
+import br.com.setecolinas.kanban_project.model.User;
+import br.com.setecolinas.kanban_project.model.enums.ProjectStatus;
+import br.com.setecolinas.kanban_project.repository.OrganizationRepository;
+import br.com.setecolinas.kanban_project.repository.ProjectRepository;
+import br.com.setecolinas.kanban_project.repository.ResponsibleRepository;
+import br.com.setecolinas.kanban_project.security.ClaimsPrincipal;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// ProjectService sobre o banco real (H2): consultas, lotes e contagem de statements
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("Testes do ProjectService com JPA")
+class ProjectServiceJpaTest {
+
+    private static final String TENANT = "tenant-a";
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ProjectRepository repo;
+
+    @Autowired
+    private ResponsibleRepository respRepo;
+
+    @Autowired
+    private OrganizationRepository orgRepo;
+
+    private ProjectService service;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Organization org = em.merge(Organization.builder().name("Org A").slug("org-a").tenantId(TENANT).build());
+        Organization other = em.merge(Organization.builder().name("Org B").slug("org-b").tenantId("tenant-b").build());
+
+        for (int i = 0; i < 10; i++) {
+            Project p = new Project("Projeto " + i);
+            p.setTenantId(TENANT);
+            p.setOrganization(org);
+            for (int j = 0; j < 3; j++) {
+                p.getResponsibles().add(responsible("r" + i + "-" + j, TENANT, org));
+            }
+            em.persist(p);
+        }
+        Project foreign = new Project("Projeto de outro tenant");
+        foreign.setTenantId("tenant-b");
+        foreign.setOrganization(other);
+        foreign.getResponsibles().add(responsible("rb", "tenant-b", other));
+        em.persist(foreign);
+
+        em.flush();
+        em.clear();
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+                ProjectCache.PROJECT, ProjectCache.PAGE_IDS, TenantRowCounter.CACHE);
+        service = new ProjectService(repo, respRepo, orgRepo,
+                new ProjectCache(cacheManager, new TenantCacheEvictor(cacheManager)), new TenantRowCounter(cacheManager),
+                event -> { });
+
+        User user = User.builder().id(1L).email("admin@org-a.com").tenantId(TENANT).organization(org).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(ClaimsPrincipal.of(user), null, List.of()));
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por status, janela de prazo, atraso e responsável/secretaria sem duplicar linhas")
+    void findAllFiltered_shouldApplyOnlyGivenPredicates() {
+        Organization org = em.merge(Organization.builder().name("Org F").slug("org-f").tenantId("tenant-f").build());
+        Secretaria sec = new Secretaria("Obras", null);
+        sec.setTenantId("tenant-f");
+        sec.setOrganization(org);
+        em.persist(sec);
+        Responsible inSec = responsible("f1", "tenant-f", org);
+        inSec.setSecretaria(sec);
+        Responsible other = responsible("f2", "tenant-f", org);
+        LocalDate today = LocalDate.now();
+
+        Project late = filtered("Atrasado", org, today.minusDays(30), today.minusDays(10), inSec, other);
+        Project endsSoon = filtered("Termina logo", org, today.minusDays(5), today.plusDays(3), other);
+        filtered("Futuro", org, today.plusDays(30), today.plusDays(60));
+        em.flush();
+        em.clear();
+        User user = User.builder().id(3L).email("admin@org-f.com").tenantId("tenant-f").organization(org).build();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(ClaimsPrincipal.of(user), null, List.of()));
+
+        Page<ProjectResponseDTO> atrasados = service.findAll(
+                new ProjectFilter(Set.of(ProjectStatus.ATRASADO), null, null, null, null, null, null, null), PageRequest.of(0, 10));
+        assertEquals(List.of(late.getId(), endsSoon.getId()),
+                atrasados.map(ProjectResponseDTO::id).getContent().stream().sorted().toList());
+
+        Page<ProjectResponseDTO> window = service.findAll(
+                new ProjectFilter(null, null, null, today, today.plusDays(7), null, null, null), PageRequest.of(0, 10));
+        assertEquals(List.of(endsSoon.getId()), window.map(ProjectResponseDTO::id).getContent());
+
+        Page<ProjectResponseDTO> byResponsible = service.findAll(
+                new ProjectFilter(null, null, null, null, null, 5, other.getId(), null), PageRequest.of(0, 10));
+        assertEquals(List.of(late.getId()), byResponsible.map(ProjectResponseDTO::id).getContent());
+        assertEquals(2, byResponsible.getContent().get(0).responsibleIds().size());
+
+        Page<ProjectResponseDTO> bySecretaria = service.findAll(
+                new ProjectFilter(null, null, null, null, null, null, null, sec.getId()),
+                PageRequest.of(0, 10, Sort.by("plannedEnd")));
+        assertEquals(1, bySecretaria.getTotalElements());
+
+        assertThrows(BusinessException.class, () -> service.findAll(
+                new ProjectFilter(null, null, null, null, null, 1, null, null), PageRequest.of(0, 10, Sort.by("tenantId"))));
+
+        // EXACT e NONE aplicam o filtro; o total aproximado é do tenant inteiro e não combina com filtros
+        ProjectFilter onlyLate = new ProjectFilter(Set.of(ProjectStatus.ATRASADO), null, null, null, null, null, null, null);
+        assertEquals(2, ((Page<?>) service.findAll(onlyLate, PageRequest.of(0, 10), CountMode.EXACT)).getTotalElements());
+        assertThrows(BusinessException.class, () -> service.findAll(onlyLate, PageRequest.of(0, 10), CountMode.APPROXIMATE));
+    }
+
+    @Test
+    @DisplayName("Deve buscar uma linha a mais em vez de COUNT no modo NONE com filtro")
+    void findAllFiltered_countNone_shouldProbeNextRow() {
+        em.createQuery("update Project p set p.status = :status")
+                .setParameter("status", ProjectStatus.A_INICIAR).executeUpdate();
+        ProjectFilter inTenant = new ProjectFilter(Set.of(ProjectStatus.A_INICIAR), null, null, null, null, null, null, null);
+        statistics.clear();
+
+        Slice<ProjectResponseDTO> first = service.findAll(inTenant, PageRequest.of(0, 4, Sort.by("name")), CountMode.NONE);
+
+        // linhas (size + 1) + pares (projeto, responsável)
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertFalse(first instanceof Page);
+        assertEquals(List.of("Projeto 0", "Projeto 1", "Projeto 2", "Projeto 3"),
+                first.map(ProjectResponseDTO::name).getContent());
+        assertTrue(first.hasNext());
+
+        Slice<ProjectResponseDTO> last = service.findAll(inTenant, PageRequest.of(2, 4, Sort.by("name")), CountMode.NONE);
+        assertEquals(List.of("Projeto 8", "Projeto 9"), last.map(ProjectResponseDTO::name).getContent());
+        assertFalse(last.hasNext());
+    }
+
+    @Test
+    @DisplayName("Deve validar o sort mesmo sem filtros e usar o cache só sem filtro e sem sort")
+    void findAll_sortOnly_shouldUseWhitelistedPath() {
+        ProjectFilter none = new ProjectFilter(null, null, null, null, null, null, null, null);
+
+        Page<ProjectResponseDTO> desc = service.findAll(none, PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "name")));
+        assertEquals(List.of("Projeto 9", "Projeto 8", "Projeto 7"), desc.map(ProjectResponseDTO::name).getContent());
+        assertEquals(10, desc.getTotalElements());
+
+        assertThrows(BusinessException.class,
+                () -> service.findAll(none, PageRequest.of(0, 3, Sort.by("tenantId"))));
+        assertThrows(BusinessException.class,
+                () -> service.findAll(none, PageRequest.of(0, 3, Sort.by("tenantId")), CountMode.NONE));
+    }
+
+    @Test
+    @DisplayName("Deve calcular status, atraso e % restante no SELECT igual ao recalc do serviço")
+    void findAllLive_shouldMatchRecalc() {
+        Organization org = em.merge(Organization.builder().name("Org L").slug("org-l").tenantId("tenant-live").build());
+        LocalDate today = LocalDate.now();
+        LocalDate[][] dates = {
+                {null, null, null, null},
+                {today.minusDays(20), today.minusDays(5), today.minusDays(20), null},
+                {today.minusDays(10), today.plusDays(10), today.minusDays(10), null},
+                {today.minusDays(3), today.plusDays(30), null, null},
+                {today.plusDays(3), today.plusDays(30), null, null},
+                {today.minusDays(30), today.minusDays(2), today.minusDays(30), today.minusDays(1)},
+                {today.minusDays(10), today, today.minusDays(10), null},
+                {null, today.minusDays(1), null, null},
+        };
+        Map<Long, Project> expected = new HashMap<>();
+        for (LocalDate[] d : dates) {
+            Project p = new Project("Live");
+            p.setTenantId("tenant-live");
+            p.setOrganization(org);
+            p.setPlannedStart(d[0]);
+            p.setPlannedEnd(d[1]);
+            p.setActualStart(d[2]);
+            p.setActualEnd(d[3]);
+            em.persist(p);
+            service.recalc(p);
+            expected.put(p.getId(), p);
+        }
+        em.flush();
+        em.clear();
+        User user = User.builder().id(2L).email("admin@org-l.com").tenantId("tenant-live").organization(org).build();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(ClaimsPrincipal.of(user), null, List.of()));
+
+        Page<ProjectResponseDTO> page = service.findAllLive(PageRequest.of(0, 20), null);
+
+        assertEquals(dates.length, page.getTotalElements());
+        for (ProjectResponseDTO dto : page) {
+            Project p = expected.get(dto.id());
+            assertEquals(p.getStatus().name(), dto.status(), "status do projeto " + dto.id());
+            assertEquals(p.getDaysDelay(), dto.daysDelay(), "atraso do projeto " + dto.id());
+            assertEquals(p.getPercentTimeRemaining(), dto.percentTimeRemaining(), 1e-9, "% do projeto " + dto.id());
+        }
+
+        Page<ProjectResponseDTO> delayed = service.findAllLive(
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "daysDelay")), 1);
+        assertEquals(List.of(5, 1), delayed.map(ProjectResponseDTO::daysDelay).getContent());
+        assertEquals(5, service.findAllLive(PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "daysDelay")), null)
+                .getContent().get(0).daysDelay());
+    }
+
+    @Test
+    @DisplayName("Deve criar em lote com um IN de responsáveis, inserts agrupados e falhas por item")
+    void createAll_shouldBatchInsertsAndReportFailures() {
+        List<Responsible> responsibles = respRepo.findAll();
+        Set<Long> mine = Set.copyOf(responsibles.stream().filter(r -> TENANT.equals(r.getTenantId()))
+                .map(Responsible::getId).limit(2).toList());
+        Long foreign = responsibles.stream().filter(r -> !TENANT.equals(r.getTenantId())).findFirst().orElseThrow().getId();
+        List<ProjectRequestDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            dtos.add(new ProjectRequestDTO("Lote " + i, LocalDate.now().plusDays(1), LocalDate.now().plusDays(30), null, null, mine));
+        }
+        dtos.add(new ProjectRequestDTO(" ", null, null, null, null, null));
+        dtos.add(new ProjectRequestDTO("Responsável de outro tenant", null, null, null, null, Set.of(foreign)));
+        statistics.clear();
+
+        BulkResultDTO result = service.createAll(dtos);
+        em.flush();
+
+        assertEquals(120, result.succeeded());
+        assertEquals(2, result.failed());
+        assertEquals("Name is required", result.items().get(120).error());
+        assertEquals("Responsible not found: [" + foreign + "]", result.items().get(121).error());
+        assertTrue(result.items().subList(0, 120).stream().allMatch(item -> item.id() != null && item.project() != null));
+        assertEquals(120, statistics.getEntityInsertCount());
+        // IN dos responsáveis + nextval a cada 50 ids + lotes de 50 para project e project_responsible
+        assertTrue(statistics.getPrepareStatementCount() <= 15,
+                "statements preparados: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Deve transitar em lote com uma consulta, updates agrupados e falhas por item")
+    void transitionAll_shouldBatchUpdatesAndReportFailures() {
+        List<Long> ids = repo.findAll().stream().filter(p -> TENANT.equals(p.getTenantId()))
+                .map(Project::getId).sorted().limit(3).toList();
+        List<Long> request = new ArrayList<>(ids);
+        request.add(Long.MAX_VALUE);
+        request.add(ids.get(0));
+        em.clear();
+        statistics.clear();
+
+        BulkResultDTO result = service.transitionAll(request, ProjectStatus.CONCLUIDO);
+        em.flush();
+
+        assertEquals(3, result.succeeded());
+        assertEquals("Project not found", result.items().get(3).error());
+        assertEquals("Duplicate id", result.items().get(4).error());
+        assertTrue(result.items().subList(0, 3).stream().allMatch(item -> "CONCLUIDO".equals(item.project().status())));
+        assertEquals(3, result.items().get(0).project().responsibleIds().size());
+        assertEquals(3, statistics.getEntityUpdateCount());
+        // projetos + pares (projeto, responsável) + um lote de updates
+        assertEquals(3, statistics.getPrepareStatementCount());
+
+        BulkResultDTO rejected = service.transitionAll(List.of(ids.get(0)), ProjectStatus.EM_ANDAMENTO);
+        assertEquals("Transition not allowed or requires manual date adjustments", rejected.items().get(0).error());
+    }
+
+    @Test
+    @DisplayName("Não deve gravar item recusado no lote, mesmo com campos derivados desatualizados")
+    void transitionAll_rejected_shouldNotFlushEntity() {
+        // Projetos do setUp sem status calculado: o recalc da regra os deixaria sujos
+        Long stale = repo.findAll().stream().filter(p -> TENANT.equals(p.getTenantId()))
+                .map(Project::getId).findFirst().orElseThrow();
+        em.clear();
+        statistics.clear();
+
+        BulkResultDTO result = service.transitionAll(List.of(stale), ProjectStatus.ATRASADO);
+        em.flush();
+
+        assertEquals("Cannot mark as delayed before planned start", result.items().get(0).error());
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertNull(repo.findById(stale).orElseThrow().getStatus());
+    }
+
+    private Responsible responsible(String key, String tenantId, Organization org) {
+        Responsible r = new Responsible("Responsável " + key, key + "@example.com", "Analista");
+        r.setTenantId(tenantId);
+        r.setOrganization(org);
+        em.persist(r);
+        return r;
+    }
+
+    private Project filtered(String name, Organization org, LocalDate plannedStart, LocalDate plannedEnd,
+                             Responsible... responsibles) {
+        Project p = new Project(name);
+        p.setTenantId(org.getTenantId());
+        p.setOrganization(org);
+        p.setPlannedStart(plannedStart);
+        p.setPlannedEnd(plannedEnd);
+        p.getResponsibles().addAll(List.of(responsibles));
+        service.recalc(p);
+        em.persist(p);
+        return p;
+    }
+}
@@ -1,12 +1,21 @@
 package br.com.setecolinas.kanban_project.service;
 
+import br.com.setecolinas.kanban_project.cache.ProjectCache;
+import br.com.setecolinas.kanban_project.cache.TenantCacheEvictor;
+import br.com.setecolinas.kanban_project.cache.TenantRowCounter;
+import br.com.setecolinas.kanban_project.dto.CountMode;
 import br.com.setecolinas.kanban_project.dto.ResponsibleRequestDTO;
 import br.com.setecolinas.kanban_project.dto.ResponsibleResponseDTO;
+import br.com.setecolinas.kanban_project.exceptions.BusinessException;
 import br.com.setecolinas.kanban_project.exceptions.NotFoundException;
 import br.com.setecolinas.kanban_project.model.Responsible;
 import br.com.setecolinas.kanban_project.model.Secretaria;
+import br.com.setecolinas.kanban_project.model.enums.UserRole;
+import br.com.setecolinas.kanban_project.repository.OrganizationRepository;
 import br.com.setecolinas.kanban_project.repository.ResponsibleRepository;
 import br.com.setecolinas.kanban_project.repository.SecretariaRepository;
+import br.com.setecolinas.kanban_project.security.ClaimsPrincipal;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,16 +23,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +52,21 @@ class ResponsibleServiceTest {
     @Mock
     private SecretariaRepository secRepo;
 
+    @Mock
+    private OrganizationRepository orgRepo;
+
+    @Mock
+    private TenantCacheEvictor cacheEvictor;
+
+    @Mock
+    private ProjectCache projectCache;
+
+    @Mock
+    private TenantRowCounter rowCounter;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
     @InjectMocks
     private ResponsibleService service;
 
@@ -53,6 +84,11 @@ class ResponsibleServiceTest {
         requestDTO = new ResponsibleRequestDTO("João da Silva", "joao.silva@example.com", "Analista", 1L);
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     @DisplayName("Deve criar um novo responsável com secretaria")
     void create_shouldCreateResponsibleWithSecretaria() {
@@ -116,6 +152,35 @@ class ResponsibleServiceTest {
         verify(repo, times(1)).findAll(pageable);
     }
 
+    @Test
+    @DisplayName("Deve recusar count=APPROXIMATE combinado com busca")
+    void findAll_approximateWithSearch_shouldThrowBusinessException() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> service.findAll("joão", pageable, CountMode.APPROXIMATE));
+
+        assertTrue(ex.getMessage().contains("count=EXACT or NONE"));
+        verifyNoInteractions(repo, rowCounter);
+    }
+
+    @Test
+    @DisplayName("Deve usar o total em cache do tenant com count=APPROXIMATE sem busca")
+    void findAll_approximateWithoutSearch_shouldUseRowCounter() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new ClaimsPrincipal(1L, "admin@teste.com", "tenant-a", 1L, UserRole.ADMIN), null, List.of()));
+        Pageable pageable = PageRequest.of(0, 10);
+        ResponsibleResponseDTO dto = new ResponsibleResponseDTO(1L, "João da Silva", "joao.silva@example.com", "Analista", 1L);
+        when(repo.findDtoSliceByTenantId("tenant-a", pageable)).thenReturn(new SliceImpl<>(List.of(dto), pageable, false));
+        when(rowCounter.get(eq(ResponsibleService.ROW_COUNT), eq("tenant-a"), any())).thenReturn(42L);
+
+        Slice<ResponsibleResponseDTO> result = service.findAll("  ", pageable, CountMode.APPROXIMATE);
+
+        assertInstanceOf(Page.class, result);
+        assertEquals(42L, ((Page<ResponsibleResponseDTO>) result).getTotalElements());
+        assertEquals(List.of(dto), result.getContent());
+    }
+
     @Test
     @DisplayName("Deve atualizar um responsável com sucesso")
     void update_shouldUpdateResponsible() {
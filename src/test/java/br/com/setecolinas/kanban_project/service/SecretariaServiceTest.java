@@ -1,21 +1,33 @@
 package br.com.setecolinas.kanban_project.service;
 
+import br.com.setecolinas.kanban_project.cache.ProjectCache;
+import br.com.setecolinas.kanban_project.cache.TenantCacheEvictor;
+import br.com.setecolinas.kanban_project.cache.TenantRowCounter;
 import br.com.setecolinas.kanban_project.dto.SecretariaRequestDTO;
 import br.com.setecolinas.kanban_project.dto.SecretariaResponseDTO;
 import br.com.setecolinas.kanban_project.exceptions.NotFoundException;
+import br.com.setecolinas.kanban_project.model.Responsible;
 import br.com.setecolinas.kanban_project.model.Secretaria;
+import br.com.setecolinas.kanban_project.model.enums.UserRole;
+import br.com.setecolinas.kanban_project.repository.OrganizationRepository;
 import br.com.setecolinas.kanban_project.repository.SecretariaRepository;
+import br.com.setecolinas.kanban_project.security.ClaimsPrincipal;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +42,21 @@ class SecretariaServiceTest {
     @Mock
     private SecretariaRepository repo;
 
+    @Mock
+    private OrganizationRepository orgRepo;
+
+    @Mock
+    private TenantCacheEvictor cacheEvictor;
+
+    @Mock
+    private ProjectCache projectCache;
+
+    @Mock
+    private TenantRowCounter rowCounter;
+
+    @Mock
+    private ApplicationEventPublisher events;
+
     @InjectMocks
     private SecretariaService service;
 
@@ -47,6 +74,11 @@ class SecretariaServiceTest {
         responseDTO = new SecretariaResponseDTO(1L, "Secretaria de Educação", "Responsável pela educação");
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     @DisplayName("Deve criar uma nova secretaria com sucesso")
     void create_shouldCreateSecretaria() {
@@ -146,4 +178,37 @@ class SecretariaServiceTest {
         verify(repo, times(1)).existsById(99L);
         verify(repo, never()).deleteById(any());
     }
+
+    @Test
+    @DisplayName("Deve invalidar o cache de projetos e publicar DELETED para os responsáveis removidos em cascata")
+    void delete_shouldPublishCascadedResponsibleDeletes() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new ClaimsPrincipal(1L, "admin@teste.com", "tenant-a", 1L, UserRole.ADMIN), null, List.of()));
+        secretaria.getResponsaveis().add(responsible(10L));
+        secretaria.getResponsaveis().add(responsible(11L));
+        when(repo.findByIdAndTenantId(1L, "tenant-a")).thenReturn(Optional.of(secretaria));
+        // Simula o flush do orphanRemoval: a coleção não é mais confiável depois do delete
+        doAnswer(invocation -> {
+            secretaria.getResponsaveis().clear();
+            return null;
+        }).when(repo).delete(secretaria);
+
+        service.delete(1L);
+
+        verify(repo).delete(secretaria);
+        verify(projectCache).evictTenant("tenant-a");
+        verify(cacheEvictor).evictTenant("responsiblesPage", "tenant-a");
+        ArgumentCaptor<ResponsibleChangedEvent> captor = ArgumentCaptor.forClass(ResponsibleChangedEvent.class);
+        verify(events, times(2)).publishEvent(captor.capture());
+        assertEquals(List.of(10L, 11L), captor.getAllValues().stream()
+                .map(ResponsibleChangedEvent::responsibleId).sorted().toList());
+        assertTrue(captor.getAllValues().stream().allMatch(e ->
+                e.type() == ResponsibleChangedEvent.Type.DELETED && "tenant-a".equals(e.tenantId())));
+    }
+
+    private static Responsible responsible(Long id) {
+        Responsible r = new Responsible("Responsável " + id, "r" + id + "@teste.com", "Analista");
+        r.setId(id);
+        return r;
+    }
 }
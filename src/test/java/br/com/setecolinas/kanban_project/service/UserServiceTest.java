@@ -11,6 +11,8 @@ import br.com.setecolinas.kanban_project.repository.OrganizationRepository;
 import br.com.setecolinas.kanban_project.repository.SubscriptionRepository;
 import br.com.setecolinas.kanban_project.repository.UserRepository;
 import br.com.setecolinas.kanban_project.security.JwtTokenProvider;
+import br.com.setecolinas.kanban_project.security.PrincipalCache;
+import br.com.setecolinas.kanban_project.security.TokenDenyList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +24,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -49,6 +52,12 @@ class UserServiceTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TokenDenyList tokenDenyList;
+
     @InjectMocks
     private UserService userService;
 
@@ -285,6 +294,12 @@ class UserServiceTest {
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(userRepository.existsByEmail("novoemail@example.com")).thenReturn(false);
         when(userRepository.save(any())).thenReturn(user);
+        // O principal fica em cache pelo email antigo: a remoção tem de acontecer antes da troca
+        AtomicReference<String> evictedEmail = new AtomicReference<>();
+        doAnswer(inv -> {
+            evictedEmail.set(inv.<User>getArgument(0).getEmail());
+            return null;
+        }).when(principalCache).evict(any(User.class));
 
         // When
         userService.updateProfile(1L, "João Silva Updated", "novoemail@example.com");
@@ -293,6 +308,8 @@ class UserServiceTest {
         assertThat(user.getName()).isEqualTo("João Silva Updated");
         assertThat(user.getEmail()).isEqualTo("novoemail@example.com");
         verify(userRepository).save(user);
+        verify(principalCache).evict(user);
+        assertThat(evictedEmail.get()).isEqualTo("joao@example.com");
         verify(auditLogService).log(anyString(), any(), eq("UPDATE_PROFILE"), anyString(), anyLong(), anyString());
     }
 
@@ -315,6 +332,8 @@ class UserServiceTest {
         // Then
         assertThat(user.getActive()).isFalse();
         verify(userRepository).save(user);
+        verify(principalCache).evict(user);
+        verify(tokenDenyList).revoke(1L);
         verify(auditLogService).log(anyString(), any(), eq("DEACTIVATE"), anyString(), anyLong(), anyString());
     }
 
@@ -339,7 +358,28 @@ class UserServiceTest {
         // Then
         assertThat(user.getPassword()).isEqualTo("new-hashed-password");
         verify(userRepository).save(user);
+        verify(principalCache).evict(user);
+        verify(tokenDenyList).revoke(1L);
         verify(auditLogService).log(anyString(), any(), eq("CHANGE_PASSWORD"), anyString(), anyLong(), anyString());
     }
-}
 
+    @Test
+    @DisplayName("Should keep cached principal when the current password is wrong")
+    void testChangePasswordWrongPasswordKeepsCache() {
+        // Given
+        User user = User.builder()
+                .id(1L)
+                .password("old-hashed-password")
+                .tenantId("tenant-123")
+                .build();
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("wrong", "old-hashed-password")).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> userService.changePassword(1L, "wrong", "newpassword"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Senha atual está incorreta");
+        verifyNoInteractions(principalCache, tokenDenyList);
+    }
+}